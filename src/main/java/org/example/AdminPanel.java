@@ -2,14 +2,28 @@ package org.example;
 
 import org.example.ui.components.AdminUIComponents;
 import org.example.ui.panels.*;
+import org.example.utils.DatabaseExecutor;
 import org.example.utils.UIStyler;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 
 public class AdminPanel extends JFrame {
+    private static final String DASHBOARD_TAB = "Dashboard";
+    private static final String USER_TAB = "User Management";
+    private static final String SCHOOL_TAB = "School Management";
+    private static final String HOSPITAL_TAB = "Hospital Management";
+    private static final String BOOKING_TAB = "Booking Overview";
+    private static final String ANALYTICS_TAB = "Analytics & Reports";
+
+    // Most-used tabs, warmed in this order once the window is visible
+    private static final String[] PREFETCH_TABS = {USER_TAB, SCHOOL_TAB};
+
     // --- UI Components ---
     private JTabbedPane tabbedPane;
     private DashboardPanel dashboardPanel;
@@ -17,6 +31,9 @@ public class AdminPanel extends JFrame {
     private SchoolManagementPanel schoolManagementPanel;
     private HospitalManagementPanel hospitalManagementPanel;
     private BookingOverviewPanel bookingOverviewPanel;
+    private AnalyticsPanel analyticsPanel;
+
+    private boolean prefetchStarted = false;
 
     // --- Constructor ---
     public AdminPanel() {
@@ -27,8 +44,7 @@ public class AdminPanel extends JFrame {
         setLayout(new BorderLayout());
         initializeComponents();
         setupShutdownHandling();
-
-
+        setupPrefetch();
     }
 
     private void initializeComponents() {
@@ -40,25 +56,114 @@ public class AdminPanel extends JFrame {
         tabbedPane = new JTabbedPane();
         tabbedPane.setFont(UIStyler.MAIN_FONT);
 
-        // Initialize panels
+        // Only the dashboard is built up front; the other tabs are built on first selection
         dashboardPanel = new DashboardPanel(tabbedPane);
-        userManagementPanel = new UserManagementPanel(this);
-        schoolManagementPanel = new SchoolManagementPanel(this);
-        hospitalManagementPanel = new HospitalManagementPanel(this);
-        bookingOverviewPanel = new BookingOverviewPanel();
 
         // Add tabs
-        tabbedPane.addTab("Dashboard", dashboardPanel);
-        tabbedPane.addTab("User Management", userManagementPanel);
-        tabbedPane.addTab("School Management", schoolManagementPanel);
-        tabbedPane.addTab("Hospital Management", hospitalManagementPanel);
-        tabbedPane.addTab("Booking Overview", bookingOverviewPanel);
+        tabbedPane.addTab(DASHBOARD_TAB, dashboardPanel);
+        tabbedPane.addTab(USER_TAB, createTabPlaceholder());
+        tabbedPane.addTab(SCHOOL_TAB, createTabPlaceholder());
+        tabbedPane.addTab(HOSPITAL_TAB, createTabPlaceholder());
+        tabbedPane.addTab(BOOKING_TAB, createTabPlaceholder());
+        tabbedPane.addTab(ANALYTICS_TAB, createTabPlaceholder());
+        tabbedPane.addChangeListener(e -> ensureTabBuilt(tabbedPane.getSelectedIndex()));
         add(tabbedPane, BorderLayout.CENTER);
 
         // Create status bar
         add(AdminUIComponents.createStatusBar(), BorderLayout.SOUTH);
     }
 
+    private JPanel createTabPlaceholder() {
+        JPanel placeholder = new JPanel(new BorderLayout());
+        JLabel loadingLabel = UIStyler.createStyledLabel("Loading...", UIStyler.MAIN_FONT, UIStyler.TEXT_COLOR);
+        loadingLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        placeholder.add(loadingLabel, BorderLayout.CENTER);
+        return placeholder;
+    }
+
+    /**
+     * Build the panel behind a tab the first time it is needed.
+     * Panel constructors only build the UI; their data is loaded in the background.
+     */
+    private void ensureTabBuilt(int index) {
+        if (index < 0) {
+            return;
+        }
+        String tabTitle = tabbedPane.getTitleAt(index);
+        JComponent panel = null;
+
+        switch (tabTitle) {
+            case USER_TAB:
+                if (userManagementPanel == null) {
+                    panel = userManagementPanel = new UserManagementPanel(this);
+                }
+                break;
+            case SCHOOL_TAB:
+                if (schoolManagementPanel == null) {
+                    panel = schoolManagementPanel = new SchoolManagementPanel(this);
+                }
+                break;
+            case HOSPITAL_TAB:
+                if (hospitalManagementPanel == null) {
+                    panel = hospitalManagementPanel = new HospitalManagementPanel(this);
+                }
+                break;
+            case BOOKING_TAB:
+                if (bookingOverviewPanel == null) {
+                    panel = bookingOverviewPanel = new BookingOverviewPanel();
+                }
+                break;
+            case ANALYTICS_TAB:
+                if (analyticsPanel == null) {
+                    panel = analyticsPanel = new AnalyticsPanel();
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (panel != null) {
+            tabbedPane.setComponentAt(index, panel);
+            System.out.println("Built tab: " + tabTitle);
+        }
+    }
+
+    /**
+     * Warm the most-used tabs after the window is first shown, unless the login pipeline already started it
+     */
+    private void setupPrefetch() {
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                startPrefetch();
+            }
+        });
+    }
+
+    /**
+     * Start loading the dashboard and the most-used tabs; only the first call has any effect.
+     * One tab is built per EDT event so user input is never held up behind the prefetch.
+     */
+    public void startPrefetch() {
+        if (prefetchStarted) {
+            return;
+        }
+        prefetchStarted = true;
+        dashboardPanel.refreshData();
+        Deque<String> pending = new ArrayDeque<>(Arrays.asList(PREFETCH_TABS));
+        SwingUtilities.invokeLater(() -> prefetchNext(pending));
+    }
+
+    private void prefetchNext(Deque<String> pending) {
+        String tabTitle = pending.poll();
+        if (tabTitle == null) {
+            return;
+        }
+        int index = tabbedPane.indexOfTab(tabTitle);
+        ensureTabBuilt(index);
+        SwingUtilities.invokeLater(() -> prefetchNext(pending));
+    }
+
     private JPanel createHeaderWithRefresh() {
         JPanel headerPanel = new JPanel(new BorderLayout());
 
@@ -109,29 +214,34 @@ public class AdminPanel extends JFrame {
         String tabTitle = tabbedPane.getTitleAt(selectedIndex);
 
         switch (tabTitle) {
-            case "School Management":
+            case SCHOOL_TAB:
                 refreshSchoolTable();
                 break;
-            case "User Management":
+            case USER_TAB:
                 if (userManagementPanel != null) {
                     userManagementPanel.refreshData();
                 }
                 break;
-            case "Hospital Management":
+            case HOSPITAL_TAB:
                 if (hospitalManagementPanel != null) {
                     hospitalManagementPanel.refreshData();
                 }
                 break;
-            case "Booking Overview":
+            case BOOKING_TAB:
                 if (bookingOverviewPanel != null) {
                     bookingOverviewPanel.refreshData();
                 }
                 break;
-            case "Dashboard":
+            case DASHBOARD_TAB:
                 if (dashboardPanel != null) {
                     dashboardPanel.refreshData();
                 }
                 break;
+            case ANALYTICS_TAB:
+                if (analyticsPanel != null) {
+                    analyticsPanel.refreshData(true);
+                }
+                break;
             default:
                 System.out.println("No refresh action defined for tab: " + tabTitle);
         }
@@ -157,25 +267,33 @@ public class AdminPanel extends JFrame {
         });
     }
 
+    /**
+     * Stop the panels' timers and in-flight work, e.g. the dashboard auto-refresh.
+     * Called on shutdown, and by the login screen when it discards a panel built for a login that failed.
+     */
+    public void cleanupPanels() {
+        if (schoolManagementPanel != null) {
+            schoolManagementPanel.cleanup();
+        }
+        if (userManagementPanel != null && userManagementPanel instanceof Cleanupable) {
+            ((Cleanupable) userManagementPanel).cleanup();
+        }
+        if (hospitalManagementPanel != null && hospitalManagementPanel instanceof Cleanupable) {
+            ((Cleanupable) hospitalManagementPanel).cleanup();
+        }
+        if (bookingOverviewPanel != null && bookingOverviewPanel instanceof Cleanupable) {
+            ((Cleanupable) bookingOverviewPanel).cleanup();
+        }
+        if (dashboardPanel != null && dashboardPanel instanceof Cleanupable) {
+            ((Cleanupable) dashboardPanel).cleanup();
+        }
+    }
+
     private void shutdownApplication() {
         try {
-            // Cleanup panels
-            if (schoolManagementPanel != null) {
-                schoolManagementPanel.cleanup();
-            }
-            if (userManagementPanel != null && userManagementPanel instanceof Cleanupable) {
-                ((Cleanupable) userManagementPanel).cleanup();
-            }
-            if (hospitalManagementPanel != null && hospitalManagementPanel instanceof Cleanupable) {
-                ((Cleanupable) hospitalManagementPanel).cleanup();
-            }
-            if (bookingOverviewPanel != null && bookingOverviewPanel instanceof Cleanupable) {
-                ((Cleanupable) bookingOverviewPanel).cleanup();
-            }
-            if (dashboardPanel != null && dashboardPanel instanceof Cleanupable) {
-                ((Cleanupable) dashboardPanel).cleanup();
-            }
-
+            cleanupPanels();
+            DatabaseExecutor.shutdown();
+            DatabaseConnection.shutdown();
 
             System.out.println("Application shutdown completed successfully");
             System.exit(0);
@@ -0,0 +1,635 @@
+package org.example;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded pool of physical JDBC connections.
+ * Borrowed connections are proxies: calling close() hands the physical connection back to the pool
+ * instead of closing it, so existing try-with-resources callers work unchanged.
+ *
+ * Each physical connection also keeps an LRU cache of its prepared and callable statements, keyed by SQL text.
+ * Closing a cached statement clears its parameters and keeps it open for the next prepare of the same SQL.
+ */
+public class ConnectionPool {
+
+    /**
+     * Opens a new physical connection to the database
+     */
+    public interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    // Connections returned this recently are trusted without a validation round trip
+    private static final long VALIDATION_BYPASS_MILLIS = 500;
+    private static final long MAINTENANCE_INTERVAL_MILLIS = 30_000;
+
+    private final ConnectionFactory factory;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long borrowTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+
+    // One permit per connection that may be lent out; idle connections hold no permit
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PooledEntry> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger totalCount = new AtomicInteger();
+    // Signalled whenever a connection is offered to the idle queue or a slot is freed
+    private final ReentrantLock slotLock = new ReentrantLock();
+    private final Condition slotChanged = slotLock.newCondition();
+    private volatile boolean closed;
+
+    private final ScheduledExecutorService maintenance;
+
+    public ConnectionPool(ConnectionFactory factory, int minSize, int maxSize,
+                          long idleTimeoutMillis, long borrowTimeoutMillis, int validationTimeoutSeconds) {
+        this(factory, minSize, maxSize, idleTimeoutMillis, borrowTimeoutMillis, validationTimeoutSeconds, 0);
+    }
+
+    /**
+     * @param statementCacheSize statements cached per physical connection; 0 disables the cache
+     */
+    public ConnectionPool(ConnectionFactory factory, int minSize, int maxSize,
+                          long idleTimeoutMillis, long borrowTimeoutMillis, int validationTimeoutSeconds,
+                          int statementCacheSize) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: min=" + minSize + ", max=" + maxSize);
+        }
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Invalid statement cache size: " + statementCacheSize);
+        }
+        this.factory = factory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "db-pool-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.scheduleWithFixedDelay(this::runMaintenance,
+                MAINTENANCE_INTERVAL_MILLIS, MAINTENANCE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a connection, waiting up to the borrow timeout when the pool is exhausted.
+     * Idle connections are validated before they are handed out.
+     * No lock is held while a new connection is opened, so concurrent borrowers overlap their handshakes.
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("Timed out after " + borrowTimeoutMillis
+                        + " ms waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            while (true) {
+                if (closed) {
+                    throw new SQLException("Connection pool is closed");
+                }
+                PooledEntry entry = idle.pollFirst();
+                if (entry != null) {
+                    if (validate(entry)) {
+                        return entry.lease();
+                    }
+                    freeSlot();
+                    entry.closePhysical();
+                    continue;
+                }
+                if (reserveSlot(maxSize)) {
+                    return openEntry().lease();
+                }
+                // Every slot is taken by a connection still opening (warm-up, maintenance) or on its way
+                // back to the idle queue; wait for it instead of spinning through the handshake
+                awaitSlotChange(deadline);
+            }
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Close idle connections and reject further borrows.
+     * Connections that are currently borrowed are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        maintenance.shutdownNow();
+        PooledEntry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            freeSlot();
+            entry.closePhysical();
+        }
+        // Wake up borrowers still waiting for a permit or a slot so they see the pool is closed
+        permits.release(maxSize);
+        signalSlotChange();
+    }
+
+    /**
+     * Open one connection straight into the idle queue if the pool holds fewer than {@code limit}.
+     * Used to warm the pool ahead of a burst of queries; returns false when nothing was opened.
+     */
+    public boolean openIdle(int limit) throws SQLException {
+        if (closed || !reserveSlot(Math.min(limit, maxSize))) {
+            return false;
+        }
+        PooledEntry entry = openEntry();
+        if (closed) {
+            freeSlot();
+            entry.closePhysical();
+            return false;
+        }
+        idle.offerLast(entry);
+        signalSlotChange();
+        return true;
+    }
+
+    public int getTotalCount() {
+        return totalCount.get();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Prepares served from a connection's statement cache since startup
+     */
+    public long getStatementCacheHits() {
+        return statementCacheHits.sum();
+    }
+
+    /**
+     * Prepares that had to go to the driver since startup
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.sum();
+    }
+
+    /**
+     * Block until a connection is offered to the idle queue or a slot is freed, or the borrow deadline passes
+     */
+    private void awaitSlotChange(long deadline) throws SQLException {
+        slotLock.lock();
+        try {
+            // Re-check under the lock so a signal sent before we started waiting is not missed
+            while (!closed && idle.isEmpty() && totalCount.get() >= maxSize) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new SQLTimeoutException("Timed out after " + borrowTimeoutMillis
+                            + " ms waiting for a database connection to open");
+                }
+                slotChanged.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    private void signalSlotChange() {
+        slotLock.lock();
+        try {
+            slotChanged.signalAll();
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    /**
+     * Give back a slot whose physical connection was closed or never opened
+     */
+    private void freeSlot() {
+        totalCount.decrementAndGet();
+        signalSlotChange();
+    }
+
+    private boolean reserveSlot(int limit) {
+        int current;
+        do {
+            current = totalCount.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!totalCount.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private PooledEntry openEntry() throws SQLException {
+        try {
+            return new PooledEntry(factory.open());
+        } catch (SQLException | RuntimeException e) {
+            freeSlot();
+            throw e;
+        }
+    }
+
+    private boolean validate(PooledEntry entry) {
+        if (System.currentTimeMillis() - entry.lastReturned < VALIDATION_BYPASS_MILLIS) {
+            return true;
+        }
+        try {
+            return entry.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledEntry entry) {
+        try {
+            entry.statements.reclaimAll();
+            if (closed || entry.broken || !resetState(entry)) {
+                freeSlot();
+                entry.closePhysical();
+            } else {
+                entry.lastReturned = System.currentTimeMillis();
+                // LIFO keeps hot connections hot and lets surplus ones age out
+                idle.offerFirst(entry);
+                signalSlotChange();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean resetState(PooledEntry entry) {
+        try {
+            if (entry.physical.isClosed()) {
+                return false;
+            }
+            if (!entry.physical.getAutoCommit()) {
+                entry.physical.rollback();
+                entry.physical.setAutoCommit(true);
+            }
+            entry.physical.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Evict connections idle past the timeout (down to the minimum) and top the pool back up
+     */
+    private void runMaintenance() {
+        if (closed) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        Iterator<PooledEntry> it = idle.descendingIterator();
+        while (it.hasNext() && totalCount.get() > minSize) {
+            PooledEntry entry = it.next();
+            // remove() only succeeds if no borrower has taken the entry in the meantime
+            if (entry.lastReturned < cutoff && idle.remove(entry)) {
+                freeSlot();
+                entry.closePhysical();
+            }
+        }
+
+        try {
+            while (openIdle(minSize)) {
+                // keep topping up until the minimum is reached
+            }
+        } catch (SQLException | RuntimeException e) {
+            System.err.println("Connection pool could not open a connection: " + e.getMessage());
+        }
+    }
+
+    private static boolean isFatal(SQLException e) {
+        String state = e.getSQLState();
+        // SQLSTATE class 08 = connection exception
+        return state != null && state.startsWith("08");
+    }
+
+    /**
+     * A physical connection owned by the pool
+     */
+    private final class PooledEntry {
+        private final Connection physical;
+        private final StatementCache statements;
+        private volatile long lastReturned;
+        private volatile boolean broken;
+
+        PooledEntry(Connection physical) {
+            this.physical = physical;
+            this.statements = new StatementCache(this);
+            this.lastReturned = System.currentTimeMillis();
+        }
+
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+
+        void closePhysical() {
+            statements.closeAll();
+            try {
+                physical.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Routes calls on a borrowed connection to the physical one until close() returns it
+     */
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledEntry entry;
+        private final AtomicBoolean returned = new AtomicBoolean(false);
+
+        LeaseHandler(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (returned.compareAndSet(false, true)) {
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    if (returned.get()) {
+                        return true;
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + entry.physical + "]";
+                case "prepareStatement":
+                case "prepareCall":
+                    // Only the plain (sql) overloads are cached; other overloads carry result set options
+                    if (statementCacheSize > 0 && args.length == 1 && !returned.get()) {
+                        return entry.statements.prepare(method.getName(), (String) args[0], (Connection) proxy);
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (returned.get()) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            try {
+                return method.invoke(entry.physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException && isFatal((SQLException) cause)) {
+                    entry.broken = true;
+                }
+                throw cause;
+            }
+        }
+    }
+
+    /**
+     * LRU cache of one physical connection's statements, keyed by kind and SQL text.
+     * A connection is used by one borrower at a time, but the cache is also touched on release and eviction,
+     * so access is synchronized.
+     */
+    private final class StatementCache {
+        private final PooledEntry entry;
+        private final LinkedHashMap<String, CachedStatement> cache;
+
+        StatementCache(PooledEntry entry) {
+            this.entry = entry;
+            this.cache = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                    if (size() <= statementCacheSize) {
+                        return false;
+                    }
+                    eldest.getValue().evict();
+                    return true;
+                }
+            };
+        }
+
+        synchronized Object prepare(String kind, String sql, Connection lease) throws SQLException {
+            boolean callable = "prepareCall".equals(kind);
+            String key = kind + ":" + sql;
+
+            CachedStatement cached = cache.get(key);
+            if (cached != null && cached.holder == null) {
+                statementCacheHits.increment();
+                return cached.checkOut(lease);
+            }
+
+            statementCacheMisses.increment();
+            PreparedStatement physical;
+            try {
+                physical = callable ? entry.physical.prepareCall(sql) : entry.physical.prepareStatement(sql);
+            } catch (SQLException e) {
+                if (isFatal(e)) {
+                    entry.broken = true;
+                }
+                throw e;
+            }
+
+            if (cached != null) {
+                // The cached copy is still open in this lease (same SQL prepared twice); this one is not cached
+                return new CachedStatement(this, physical, callable, false).checkOut(lease);
+            }
+            CachedStatement created = new CachedStatement(this, physical, callable, true);
+            cache.put(key, created);
+            return created.checkOut(lease);
+        }
+
+        /**
+         * Return statements the borrower left open when the connection is released
+         */
+        synchronized void reclaimAll() {
+            for (CachedStatement cached : new ArrayList<>(cache.values())) {
+                if (cached.holder != null) {
+                    cached.checkIn(cached.holder);
+                }
+            }
+        }
+
+        synchronized void closeAll() {
+            for (CachedStatement cached : cache.values()) {
+                cached.closePhysical();
+            }
+            cache.clear();
+        }
+    }
+
+    /**
+     * A physical statement that outlives the proxies handed to borrowers
+     */
+    private final class CachedStatement {
+        private final StatementCache owner;
+        private final PreparedStatement physical;
+        private final boolean callable;
+        private final boolean cacheable;
+        private StatementHandler holder;
+        private boolean evicted;
+
+        CachedStatement(StatementCache owner, PreparedStatement physical, boolean callable, boolean cacheable) {
+            this.owner = owner;
+            this.physical = physical;
+            this.callable = callable;
+            this.cacheable = cacheable;
+        }
+
+        Object checkOut(Connection lease) {
+            holder = new StatementHandler(this, lease);
+            Class<?> type = callable ? CallableStatement.class : PreparedStatement.class;
+            return Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(), new Class<?>[]{type}, holder);
+        }
+
+        /**
+         * Called with the cache lock held, or through {@link StatementHandler#close()} which takes it
+         */
+        void checkIn(StatementHandler handler) {
+            if (holder != handler) {
+                return;
+            }
+            handler.closed = true;
+            holder = null;
+            if (!cacheable || evicted) {
+                closePhysical();
+                return;
+            }
+            try {
+                physical.clearParameters();
+                physical.clearBatch();
+                physical.clearWarnings();
+            } catch (SQLException e) {
+                // Unusable for the next borrower; drop it from the cache
+                evicted = true;
+                owner.cache.values().remove(this);
+                closePhysical();
+            }
+        }
+
+        void evict() {
+            evicted = true;
+            if (holder == null) {
+                closePhysical();
+            }
+        }
+
+        void closePhysical() {
+            try {
+                physical.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Routes calls on a borrowed statement to the cached one until close() hands it back
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final CachedStatement statement;
+        private final Connection lease;
+        private volatile boolean closed;
+
+        StatementHandler(CachedStatement statement, Connection lease) {
+            this.statement = statement;
+            this.lease = lease;
+        }
+
+        void close() {
+            synchronized (statement.owner) {
+                statement.checkIn(this);
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    close();
+                    return null;
+                case "isClosed":
+                    if (closed) {
+                        return true;
+                    }
+                    break;
+                case "getConnection":
+                    // Never expose the physical connection
+                    return lease;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached[" + statement.physical + "]";
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Statement has already been closed");
+            }
+            try {
+                return method.invoke(statement.physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException && isFatal((SQLException) cause)) {
+                    statement.owner.entry.broken = true;
+                }
+                throw cause;
+            }
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package org.example;
 
+import org.example.utils.DatabaseExecutor;
+import org.example.utils.QueryHandle;
+import org.example.utils.SingleFlight;
+
 import javax.swing.*;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.concurrent.CancellationException;
 
 
 public class DatabaseConnection {
@@ -12,15 +17,44 @@ public class DatabaseConnection {
     private static final String USER = "admin";
     private static final String PASS = "123";
 
-    public static synchronized Connection Connect() {
+    // Connection pool settings
+    private static final int POOL_MIN_SIZE = 2;
+    private static final int POOL_MAX_SIZE = 10;
+    private static final long POOL_IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000;
+    private static final long POOL_BORROW_TIMEOUT_MILLIS = 10 * 1000;
+    private static final int POOL_VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final int STATEMENT_CACHE_SIZE = 32;
+
+    /** Query timeout for background operations that do not choose their own; see QueryHandle */
+    public static final int DEFAULT_QUERY_TIMEOUT_SECONDS = 30;
+
+    private static final ConnectionPool POOL = new ConnectionPool(
+            DatabaseConnection::openPhysicalConnection,
+            POOL_MIN_SIZE,
+            POOL_MAX_SIZE,
+            POOL_IDLE_TIMEOUT_MILLIS,
+            POOL_BORROW_TIMEOUT_MILLIS,
+            POOL_VALIDATION_TIMEOUT_SECONDS,
+            STATEMENT_CACHE_SIZE);
+
+    static {
+        try {
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Borrow a pooled connection. Closing it returns it to the pool.
+     * Not synchronized: the pool itself is thread-safe, so concurrent callers open connections in parallel.
+     */
+    public static Connection Connect() {
         Connection connection = null ;
             try{
-                Class.forName("com.mysql.cj.jdbc.Driver");
-
-                connection = DriverManager.getConnection("jdbc:mysql://" +IP+"/"
-                        +DATABASE,USER,PASS);
+                connection = POOL.borrow();
 
-            }catch (ClassNotFoundException | SQLException e){
+            }catch (SQLException e){
                 e.printStackTrace();
                 JOptionPane.showMessageDialog(  null,
                         "Database connection failed: " + e.getMessage(),
@@ -30,7 +64,59 @@ public class DatabaseConnection {
             return connection;
     }
 
-    public static <T> void performDatabaseOperation(
+    /**
+     * Open up to {@code connections} pooled connections in parallel on the background lane,
+     * so the first burst of queries after login does not pay for the handshakes one by one
+     */
+    public static void warmUp(int connections) {
+        int target = Math.min(connections, POOL_MAX_SIZE);
+        for (int i = POOL.getTotalCount(); i < target; i++) {
+            DatabaseExecutor.execute(() -> {
+                try {
+                    POOL.openIdle(target);
+                } catch (SQLException e) {
+                    System.err.println("Connection warm-up failed: " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    private static Connection openPhysicalConnection() throws SQLException {
+        // Server-side prepares let the cached statements skip the parse on every execution;
+        // the pool does the caching, so the driver's own statement cache stays off
+        return DriverManager.getConnection("jdbc:mysql://" +IP+"/"
+                +DATABASE+"?useServerPrepStmts=true",USER,PASS);
+    }
+
+    public static ConnectionPool getPool() {
+        return POOL;
+    }
+
+    /**
+     * Close all pooled connections; called once when the application exits
+     */
+    public static void shutdown() {
+        System.out.println("Statement cache: " + POOL.getStatementCacheHits() + " hits, "
+                + POOL.getStatementCacheMisses() + " misses");
+        System.out.println("Single-flight: " + SingleFlight.getDeduplicated() + " of "
+                + SingleFlight.getCalls() + " reads shared an identical call in flight");
+        POOL.close();
+    }
+
+    public static <T> QueryHandle performDatabaseOperation(
+            java.util.function.Supplier<T> operation,
+            java.util.function.Consumer<T> onSuccess,
+            java.util.function.Consumer<Exception> onError,
+            Runnable onStart,
+            Runnable onFinish) {
+        return performDatabaseOperation(QueryHandle.withDefaultTimeout(), operation, onSuccess, onError, onStart, onFinish);
+    }
+
+    /**
+     * Run an operation on the interactive lane under {@code handle}; once the handle is cancelled no callbacks run
+     */
+    public static <T> QueryHandle performDatabaseOperation(
+            QueryHandle handle,
             java.util.function.Supplier<T> operation,
             java.util.function.Consumer<T> onSuccess,
             java.util.function.Consumer<Exception> onError,
@@ -41,11 +127,14 @@ public class DatabaseConnection {
             SwingUtilities.invokeLater(onStart);
         }
 
-        Thread thread = new Thread(() -> {
+        DatabaseExecutor.execute(DatabaseExecutor.Priority.INTERACTIVE, () -> {
             try {
-                T result = operation.get();
+                T result = handle.call(operation);
 
                 SwingUtilities.invokeLater(() -> {
+                    if (handle.isCancelled()) {
+                        return;
+                    }
                     try {
                         onSuccess.accept(result);
                     } finally {
@@ -54,8 +143,13 @@ public class DatabaseConnection {
                         }
                     }
                 });
+            } catch (CancellationException e) {
+                // Cancelled by the caller; nothing to report
             } catch (Exception e) {
                 SwingUtilities.invokeLater(() -> {
+                    if (handle.isCancelled()) {
+                        return;
+                    }
                     try {
                         onError.accept(e);
                     } finally {
@@ -66,9 +160,7 @@ public class DatabaseConnection {
                 });
             }
         });
-
-        thread.setDaemon(true);
-        thread.start();
+        return handle;
     }
 
     public static String getSystemLookAndFeel() {
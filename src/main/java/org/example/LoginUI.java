@@ -1,6 +1,6 @@
 package org.example;
 
-import org.example.utils.DatabaseWorker;
+import org.example.utils.DatabaseExecutor;
 
 import javax.swing.*;
 import java.awt.*;
@@ -28,6 +28,12 @@ public class LoginUI extends JFrame {
     private JButton loginButton;
     private JLabel errorLabel;
 
+    // Connections opened alongside the login call, for the admin panel's first burst of queries
+    private static final int WARM_UP_CONNECTIONS = 4;
+
+    // Admin panel built off-screen while authentication is in flight
+    private AdminPanel preparedAdminPanel;
+
     public LoginUI() {
         setTitle("Admin Login");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -263,26 +269,36 @@ public class LoginUI extends JFrame {
         loginButton.setText("Logging in...");
         loginButton.setEnabled(false);
 
-        // Create new thread to handle database operation
-        Thread thread = new Thread(() -> {
+        // Authenticate in the interactive lane; meanwhile warm the pool in the background lane
+        // and build the admin panel off-screen on the EDT, so a successful login only has to show it
+        DatabaseConnection.warmUp(WARM_UP_CONNECTIONS);
+        SwingUtilities.invokeLater(this::prepareAdminPanel);
+        DatabaseExecutor.execute(DatabaseExecutor.Priority.INTERACTIVE, () -> {
             LoginResult result = LoginDao.loginAdmin(email, password);
 
             // Since Swing components should be updated only on EDT, wrap updates like this:
             javax.swing.SwingUtilities.invokeLater(() -> {
                 try {
                     if (result.success) {
+                        // Start the dashboard and tab queries before the modal dialog blocks on the user
+                        AdminPanel adminPanel = prepareAdminPanel();
+                        preparedAdminPanel = null;
+                        adminPanel.startPrefetch();
+
                         JOptionPane.showMessageDialog(this,
                                 result.message != null ? result.message : "Login successful!",
                                 "Success", JOptionPane.INFORMATION_MESSAGE);
                         this.dispose();
-                        new AdminPanel().setVisible(true);
+                        adminPanel.setVisible(true);
                     } else {
+                        discardPreparedAdminPanel();
                         JOptionPane.showMessageDialog(this,
                                 result.message != null ? result.message : "Invalid email or password.",
                                 "Login Failed", JOptionPane.ERROR_MESSAGE);
                         errorLabel.setText(result.status != null ? result.status : "Login failed.");
                     }
                 } catch (Exception e) {
+                    discardPreparedAdminPanel();
                     JOptionPane.showMessageDialog(this,
                             "Login failed: " + e.getMessage(),
                             "Error", JOptionPane.ERROR_MESSAGE);
@@ -294,9 +310,26 @@ public class LoginUI extends JFrame {
                 }
             });
         });
+    }
 
-        thread.setDaemon(true);
-        thread.start();
+    /**
+     * Build the admin panel and lay it out without showing it
+     */
+    private AdminPanel prepareAdminPanel() {
+        if (preparedAdminPanel == null) {
+            preparedAdminPanel = new AdminPanel();
+            preparedAdminPanel.validate();
+        }
+        return preparedAdminPanel;
+    }
+
+    private void discardPreparedAdminPanel() {
+        if (preparedAdminPanel != null) {
+            // dispose() alone would leave the dashboard's refresh timer querying for the life of the process
+            preparedAdminPanel.cleanupPanels();
+            preparedAdminPanel.dispose();
+            preparedAdminPanel = null;
+        }
     }
 
     private boolean isValidEmail(String email) {
@@ -81,50 +81,31 @@ public class AsyncDatabaseDemo extends JFrame {
     }
 
     /**
-     * Example 1: Load user data using DatabaseWorker with full control
+     * Example 1: Stream user data into the table with full control.
+     * Rows are published in chunks while the query is still being read, so the first ones
+     * appear almost immediately and the table fills in progressively.
      */
     private void loadUserData() {
         String[] columnNames = {"ID", "Name", "Email", "Role", "Created Date"};
 
-        DatabaseWorker.executeForTable(
-            // Background task - this runs on a background thread
-            () -> {
-                List<Object[]> data = new ArrayList<>();
-
-                // Simulate a long-running query
-                try (Connection conn = DatabaseConnection.Connect()) {
-                    if (conn != null) {
-                        // This could be any slow query - SELECT * FROM users, complex joins, etc.
-                        String sql = "SELECT id, name, email, role, created_date FROM users ORDER BY created_date DESC";
-
-                        try (PreparedStatement stmt = conn.prepareStatement(sql);
-                             ResultSet rs = stmt.executeQuery()) {
-
-                            while (rs.next()) {
-                                Object[] row = {
-                                    rs.getInt("id"),
-                                    rs.getString("name"),
-                                    rs.getString("email"),
-                                    rs.getString("role"),
-                                    rs.getTimestamp("created_date")
-                                };
-                                data.add(row);
-
-                                // Simulate processing time for demonstration
-                                Thread.sleep(10);
-                            }
-                        }
-                    }
-                } catch (SQLException | InterruptedException e) {
-                    throw new RuntimeException("Failed to load user data", e);
-                }
-
-                return data;
+        DatabaseWorker.streamForTable(
+            // Query - streamed from the database on a background thread
+            DatabaseWorker.streamingStatement(
+                "SELECT id, name, email, role, created_date FROM users ORDER BY created_date DESC"),
+
+            // Row mapping - runs on the background thread for every row
+            rs -> new Object[] {
+                rs.getInt("id"),
+                rs.getString("name"),
+                rs.getString("email"),
+                rs.getString("role"),
+                rs.getTimestamp("created_date")
             },
 
             // Table and column configuration
             dataTable,
             columnNames,
+            DatabaseWorker.DEFAULT_CHUNK_SIZE,
 
             // Error handling
             exception -> {
@@ -144,13 +125,13 @@ public class AsyncDatabaseDemo extends JFrame {
                 statusLabel.setText("Querying database...");
             },
 
-            // On finish
+            // On finish - runs once the last row is shown
             () -> {
                 loadDataButton.setEnabled(true);
                 refreshButton.setEnabled(true);
                 progressBar.setIndeterminate(false);
                 progressBar.setString("Complete");
-                statusLabel.setText("Data loaded successfully - " + dataTable.getRowCount() + " records");
+                statusLabel.setText("Data loaded - " + dataTable.getRowCount() + " records");
             }
         );
     }
@@ -0,0 +1,111 @@
+package org.example.demos;
+
+import org.example.ConnectionPool;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark showing how startup latency scales with concurrency when connections are
+ * acquired through the lock-free pool versus a single global lock (the old synchronized Connect()).
+ *
+ * Uses simulated connections so it runs without a database: every physical connection costs a
+ * handshake delay and every query a round-trip delay.
+ */
+public class ConnectionConcurrencyBenchmark {
+
+    private static final long HANDSHAKE_MILLIS = 40;
+    private static final long QUERY_MILLIS = 20;
+
+    // Queries fired while the admin panel starts up (hospital tabs, combos, schools, users, bookings)
+    private static final int STARTUP_QUERIES = 16;
+    private static final int POOL_MAX_SIZE = 10;
+    private static final int[] CONCURRENCY_LEVELS = {1, 2, 4, 8, 16};
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("Startup of %d queries (handshake %d ms, query %d ms, pool max %d)%n",
+                STARTUP_QUERIES, HANDSHAKE_MILLIS, QUERY_MILLIS, POOL_MAX_SIZE);
+        System.out.printf("%-12s %18s %18s%n", "concurrency", "global lock (ms)", "lock-free (ms)");
+
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            long locked = runStartup(concurrency, true);
+            long lockFree = runStartup(concurrency, false);
+            System.out.printf("%-12d %18d %18d%n", concurrency, locked, lockFree);
+        }
+    }
+
+    /**
+     * Run all startup queries against a cold pool and return the wall-clock time in milliseconds
+     */
+    private static long runStartup(int concurrency, boolean globalLock) throws Exception {
+        ConnectionPool pool = new ConnectionPool(ConnectionConcurrencyBenchmark::openSimulatedConnection,
+                0, POOL_MAX_SIZE, 60_000, 30_000, 1);
+        Object lock = new Object();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < STARTUP_QUERIES; i++) {
+                futures.add(executor.submit(() -> {
+                    Connection conn;
+                    if (globalLock) {
+                        synchronized (lock) {
+                            conn = pool.borrow();
+                        }
+                    } else {
+                        conn = pool.borrow();
+                    }
+                    try {
+                        Thread.sleep(QUERY_MILLIS);
+                    } finally {
+                        conn.close();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            executor.shutdownNow();
+            pool.close();
+        }
+    }
+
+    private static Connection openSimulatedConnection() throws SQLException {
+        try {
+            Thread.sleep(HANDSHAKE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted during handshake", e);
+        }
+
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionConcurrencyBenchmark.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, methodArgs) -> {
+                    switch (method.getName()) {
+                        case "isValid":
+                        case "getAutoCommit":
+                            return true;
+                        case "isClosed":
+                            return false;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == methodArgs[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
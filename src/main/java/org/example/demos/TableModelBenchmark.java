@@ -0,0 +1,90 @@
+package org.example.demos;
+
+import org.example.ui.models.ArrayTableModel;
+
+import javax.swing.event.TableModelListener;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark comparing a full table reload through DefaultTableModel (clear, then addRow per row)
+ * with ArrayTableModel.setData, at 1k, 10k and 100k rows.
+ *
+ * Each model has a listener attached, as a JTable would, and the number of table events per reload
+ * is reported alongside the time. Runs without a database or a display.
+ */
+public class TableModelBenchmark {
+
+    private static final String[] COLUMNS = {"ID", "Name", "Address", "Contact", "Description"};
+    private static final int[] ROW_COUNTS = {1_000, 10_000, 100_000};
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    private static long events;
+
+    public static void main(String[] args) {
+        TableModelListener listener = e -> events++;
+
+        System.out.printf("Full reload, mean of %d runs after %d warmup runs%n", MEASURED_ITERATIONS, WARMUP_ITERATIONS);
+        System.out.printf("%-8s %22s %10s %22s %10s%n", "rows", "DefaultTableModel (ms)", "events", "ArrayTableModel (ms)", "events");
+
+        for (int rowCount : ROW_COUNTS) {
+            List<Object[]> result = createResult(rowCount);
+
+            DefaultTableModel defaultModel = new DefaultTableModel(COLUMNS, 0);
+            defaultModel.addTableModelListener(listener);
+            ArrayTableModel arrayModel = new ArrayTableModel(COLUMNS);
+            arrayModel.addTableModelListener(listener);
+
+            double defaultMillis = measure(() -> {
+                defaultModel.setRowCount(0);
+                for (Object[] row : result) {
+                    defaultModel.addRow(row);
+                }
+            });
+            long defaultEvents = countEvents(() -> {
+                defaultModel.setRowCount(0);
+                for (Object[] row : result) {
+                    defaultModel.addRow(row);
+                }
+            });
+
+            double arrayMillis = measure(() -> arrayModel.setData(result.toArray(new Object[0][])));
+            long arrayEvents = countEvents(() -> arrayModel.setData(result.toArray(new Object[0][])));
+
+            System.out.printf("%-8d %22.2f %10d %22.2f %10d%n", rowCount, defaultMillis, defaultEvents, arrayMillis, arrayEvents);
+        }
+    }
+
+    /**
+     * Rows shaped like a hospital query result
+     */
+    private static List<Object[]> createResult(int rowCount) {
+        List<Object[]> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new Object[] {i, "Hospital " + i, i + " Main Street", "555-" + (1000 + i % 9000), "Description " + i});
+        }
+        return rows;
+    }
+
+    /**
+     * Mean wall-clock time of one reload in milliseconds
+     */
+    private static double measure(Runnable reload) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            reload.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            reload.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ITERATIONS;
+    }
+
+    private static long countEvents(Runnable reload) {
+        events = 0;
+        reload.run();
+        return events;
+    }
+}
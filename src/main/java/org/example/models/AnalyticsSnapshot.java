@@ -0,0 +1,291 @@
+package org.example.models;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Pre-aggregated booking and capacity figures for the reports tab.
+ * Bookings are kept as a small cube by hospital, department and week, so every report
+ * is a cheap roll-up of the cube and can be re-sliced without going back to the database.
+ */
+public class AnalyticsSnapshot {
+
+    /** Lead time buckets for pending bookings: days left until the slot date */
+    public static final String[] LEAD_TIME_BUCKETS = {
+        "Overdue", "0-3 days", "4-7 days", "8-14 days", "15-30 days", "Over 30 days"
+    };
+
+    /**
+     * Ways to group the booking cube
+     */
+    public enum Dimension {
+        HOSPITAL("Hospital"),
+        DEPARTMENT("Department"),
+        WEEK("Week Starting");
+
+        private final String label;
+
+        Dimension(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final Map<CellKey, BookingStats> cube;
+    private final Map<String, int[]> leadTimesByHospital;
+    private final Map<DepartmentKey, Integer> capacityByDepartment;
+    private final LocalDateTime builtAt;
+    private final long buildMillis;
+
+    public AnalyticsSnapshot(Map<CellKey, BookingStats> cube, Map<String, int[]> leadTimesByHospital,
+                             Map<DepartmentKey, Integer> capacityByDepartment, LocalDateTime builtAt, long buildMillis) {
+        this.cube = Collections.unmodifiableMap(cube);
+        this.leadTimesByHospital = Collections.unmodifiableMap(leadTimesByHospital);
+        this.capacityByDepartment = Collections.unmodifiableMap(capacityByDepartment);
+        this.builtAt = builtAt;
+        this.buildMillis = buildMillis;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    public long getBuildMillis() {
+        return buildMillis;
+    }
+
+    /**
+     * Every hospital that has bookings or time slots, sorted by name
+     */
+    public List<String> getHospitals() {
+        TreeSet<String> hospitals = new TreeSet<>();
+        cube.keySet().forEach(key -> hospitals.add(key.getHospital()));
+        capacityByDepartment.keySet().forEach(key -> hospitals.add(key.getHospital()));
+        return new ArrayList<>(hospitals);
+    }
+
+    /**
+     * Rows of [group, bookings, students, approved, pending] for one dimension, sorted by group.
+     *
+     * @param hospital only include this hospital, or null for all
+     */
+    public Object[][] bookingsBy(Dimension dimension, String hospital) {
+        Function<CellKey, Object> groupOf;
+        switch (dimension) {
+            case HOSPITAL:
+                groupOf = CellKey::getHospital;
+                break;
+            case DEPARTMENT:
+                groupOf = key -> key.getHospital() + " / " + key.getDepartment();
+                break;
+            default:
+                groupOf = CellKey::getWeekStart;
+                break;
+        }
+
+        Map<Object, BookingStats> groups = new TreeMap<>();
+        cube.forEach((key, stats) -> {
+            if (hospital == null || hospital.equals(key.getHospital())) {
+                groups.merge(groupOf.apply(key), stats, BookingStats::plus);
+            }
+        });
+
+        List<Object[]> rows = new ArrayList<>(groups.size());
+        groups.forEach((group, stats) -> rows.add(new Object[] {
+            group, stats.getBookings(), stats.getStudents(), stats.getApproved(), stats.getPending()
+        }));
+        return rows.toArray(new Object[0][]);
+    }
+
+    /**
+     * Rows of [lead time bucket, pending bookings] for pending bookings
+     *
+     * @param hospital only include this hospital, or null for all
+     */
+    public Object[][] pendingLeadTimes(String hospital) {
+        int[] totals = new int[LEAD_TIME_BUCKETS.length];
+        leadTimesByHospital.forEach((name, buckets) -> {
+            if (hospital == null || hospital.equals(name)) {
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += buckets[i];
+                }
+            }
+        });
+
+        Object[][] rows = new Object[LEAD_TIME_BUCKETS.length][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[] {LEAD_TIME_BUCKETS[i], totals[i]};
+        }
+        return rows;
+    }
+
+    /**
+     * Rows of [hospital, department, capacity, booked students, utilization %], sorted by hospital and department.
+     * Booked students count every booking that was not rejected.
+     *
+     * @param hospital only include this hospital, or null for all
+     */
+    public Object[][] capacityUtilization(String hospital) {
+        Map<DepartmentKey, Integer> booked = new TreeMap<>();
+        cube.forEach((key, stats) -> {
+            if (hospital == null || hospital.equals(key.getHospital())) {
+                booked.merge(new DepartmentKey(key.getHospital(), key.getDepartment()), stats.getActiveStudents(), Integer::sum);
+            }
+        });
+        Map<DepartmentKey, Integer> capacity = new TreeMap<>();
+        capacityByDepartment.forEach((key, slots) -> {
+            if (hospital == null || hospital.equals(key.getHospital())) {
+                capacity.put(key, slots);
+            }
+        });
+
+        TreeSet<DepartmentKey> departments = new TreeSet<>(capacity.keySet());
+        departments.addAll(booked.keySet());
+        List<Object[]> rows = new ArrayList<>(departments.size());
+        for (DepartmentKey key : departments) {
+            int slots = capacity.getOrDefault(key, 0);
+            int students = booked.getOrDefault(key, 0);
+            double percent = slots == 0 ? 0 : students * 100.0 / slots;
+            rows.add(new Object[] {key.getHospital(), key.getDepartment(), slots, students, Math.round(percent * 10) / 10.0});
+        }
+        return rows.toArray(new Object[0][]);
+    }
+
+    /**
+     * Booking totals for one cell of the cube
+     */
+    public static class BookingStats {
+        private final int bookings;
+        private final int students;
+        private final int approved;
+        private final int pending;
+        private final int activeStudents;
+
+        public BookingStats(int bookings, int students, int approved, int pending, int activeStudents) {
+            this.bookings = bookings;
+            this.students = students;
+            this.approved = approved;
+            this.pending = pending;
+            this.activeStudents = activeStudents;
+        }
+
+        public int getBookings() {
+            return bookings;
+        }
+
+        public int getStudents() {
+            return students;
+        }
+
+        public int getApproved() {
+            return approved;
+        }
+
+        public int getPending() {
+            return pending;
+        }
+
+        /**
+         * Students of bookings that were not rejected, i.e. those taking up capacity
+         */
+        public int getActiveStudents() {
+            return activeStudents;
+        }
+
+        public BookingStats plus(BookingStats other) {
+            return new BookingStats(bookings + other.bookings, students + other.students,
+                    approved + other.approved, pending + other.pending, activeStudents + other.activeStudents);
+        }
+    }
+
+    /**
+     * A hospital department
+     */
+    public static class DepartmentKey implements Comparable<DepartmentKey> {
+        private final String hospital;
+        private final String department;
+
+        public DepartmentKey(String hospital, String department) {
+            this.hospital = hospital;
+            this.department = department;
+        }
+
+        public String getHospital() {
+            return hospital;
+        }
+
+        public String getDepartment() {
+            return department;
+        }
+
+        @Override
+        public int compareTo(DepartmentKey other) {
+            int byHospital = hospital.compareTo(other.hospital);
+            return byHospital != 0 ? byHospital : department.compareTo(other.department);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DepartmentKey)) return false;
+            DepartmentKey that = (DepartmentKey) o;
+            return hospital.equals(that.hospital) && department.equals(that.department);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hospital, department);
+        }
+    }
+
+    /**
+     * One cell of the booking cube: a hospital department in the week starting on {@code weekStart}
+     */
+    public static class CellKey {
+        private final String hospital;
+        private final String department;
+        private final LocalDate weekStart;
+
+        public CellKey(String hospital, String department, LocalDate weekStart) {
+            this.hospital = hospital;
+            this.department = department;
+            this.weekStart = weekStart;
+        }
+
+        public String getHospital() {
+            return hospital;
+        }
+
+        public String getDepartment() {
+            return department;
+        }
+
+        public LocalDate getWeekStart() {
+            return weekStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CellKey)) return false;
+            CellKey that = (CellKey) o;
+            return hospital.equals(that.hospital) && department.equals(that.department) && weekStart.equals(that.weekStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hospital, department, weekStart);
+        }
+    }
+}
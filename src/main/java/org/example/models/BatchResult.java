@@ -0,0 +1,65 @@
+package org.example.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a batched operation: which keys succeeded and why the others failed
+ */
+public class BatchResult<K> {
+    private final List<K> succeeded = new ArrayList<>();
+    private final Map<K, String> failed = new LinkedHashMap<>();
+
+    public void addSuccess(K key) {
+        succeeded.add(key);
+    }
+
+    public void addFailure(K key, String reason) {
+        failed.put(key, reason);
+    }
+
+    /**
+     * Mark every key as failed for the same reason, e.g. after the whole transaction was rolled back
+     */
+    public void failAll(Iterable<K> keys, String reason) {
+        succeeded.clear();
+        for (K key : keys) {
+            failed.put(key, reason);
+        }
+    }
+
+    public List<K> getSucceeded() {
+        return Collections.unmodifiableList(succeeded);
+    }
+
+    public Map<K, String> getFailed() {
+        return Collections.unmodifiableMap(failed);
+    }
+
+    public boolean isAllSucceeded() {
+        return failed.isEmpty();
+    }
+
+    /**
+     * Short message for a result dialog, listing up to {@code maxFailures} failures
+     */
+    public String getSummary(String noun, int maxFailures) {
+        StringBuilder summary = new StringBuilder();
+        summary.append(succeeded.size()).append(' ').append(noun).append(" succeeded");
+        if (!failed.isEmpty()) {
+            summary.append(", ").append(failed.size()).append(" failed:");
+            int shown = 0;
+            for (Map.Entry<K, String> failure : failed.entrySet()) {
+                if (shown++ == maxFailures) {
+                    summary.append("\n  ...");
+                    break;
+                }
+                summary.append("\n  ").append(failure.getKey()).append(": ").append(failure.getValue());
+            }
+        }
+        return summary.toString();
+    }
+}
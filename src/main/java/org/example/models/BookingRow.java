@@ -0,0 +1,68 @@
+package org.example.models;
+
+import java.time.LocalDate;
+
+/**
+ * Model class representing one row of Admin_BookingOverviewView
+ */
+public class BookingRow {
+    private final int bookingId;
+    private final String schoolName;
+    private final String hospitalName;
+    private final String department;
+    private final LocalDate slotDate;
+    private final String timeRange;
+    private final int studentCount;
+    private final String status;
+
+    public BookingRow(int bookingId, String schoolName, String hospitalName, String department,
+                      LocalDate slotDate, String timeRange, int studentCount, String status) {
+        this.bookingId = bookingId;
+        this.schoolName = schoolName;
+        this.hospitalName = hospitalName;
+        this.department = department;
+        this.slotDate = slotDate;
+        this.timeRange = timeRange;
+        this.studentCount = studentCount;
+        this.status = status;
+    }
+
+    public int getBookingId() {
+        return bookingId;
+    }
+
+    public String getSchoolName() {
+        return schoolName;
+    }
+
+    public String getHospitalName() {
+        return hospitalName;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public LocalDate getSlotDate() {
+        return slotDate;
+    }
+
+    public String getTimeRange() {
+        return timeRange;
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Copy of this row with a new status, used after an approval
+     */
+    public BookingRow withStatus(String newStatus) {
+        return new BookingRow(bookingId, schoolName, hospitalName, department, slotDate, timeRange, studentCount, newStatus);
+    }
+}
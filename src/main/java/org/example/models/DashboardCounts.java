@@ -0,0 +1,43 @@
+package org.example.models;
+
+import java.time.LocalDateTime;
+
+/**
+ * Model class representing the dashboard totals fetched by DashboardService
+ */
+public class DashboardCounts {
+    private final int pendingUsers;
+    private final int pendingSchools;
+    private final int totalHospitals;
+    private final int totalBookings;
+    private final LocalDateTime fetchedAt;
+
+    public DashboardCounts(int pendingUsers, int pendingSchools, int totalHospitals, int totalBookings,
+                           LocalDateTime fetchedAt) {
+        this.pendingUsers = pendingUsers;
+        this.pendingSchools = pendingSchools;
+        this.totalHospitals = totalHospitals;
+        this.totalBookings = totalBookings;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public int getPendingUsers() {
+        return pendingUsers;
+    }
+
+    public int getPendingSchools() {
+        return pendingSchools;
+    }
+
+    public int getTotalHospitals() {
+        return totalHospitals;
+    }
+
+    public int getTotalBookings() {
+        return totalBookings;
+    }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.models;
+
+/**
+ * Filter, sort and page settings for the school management list.
+ * Immutable; the with* methods return adjusted copies.
+ */
+public class SchoolQuery {
+
+    /**
+     * Columns the list may be sorted by, mapped to their AdminSchoolView column names
+     */
+    public enum SortColumn {
+        SCHOOL_ID("School ID", "school_id"),
+        SCHOOL_NAME("School Name", "school_name"),
+        REGISTERED_BY("Registered By", "full_name"),
+        STATUS("Status", "status"),
+        STUDENT_COUNT("Students", "student_count");
+
+        private final String label;
+        private final String columnName;
+
+        SortColumn(String label, String columnName) {
+            this.label = label;
+            this.columnName = columnName;
+        }
+
+        public String getColumnName() {
+            return columnName;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    public static final int DEFAULT_LIMIT = 100;
+
+    private final String status;
+    private final String namePrefix;
+    private final SortColumn sortColumn;
+    private final boolean ascending;
+    private final int limit;
+    private final int offset;
+
+    public SchoolQuery(String status, String namePrefix, SortColumn sortColumn, boolean ascending, int limit, int offset) {
+        if (limit < 1 || offset < 0) {
+            throw new IllegalArgumentException("Invalid page: limit=" + limit + ", offset=" + offset);
+        }
+        this.status = status;
+        this.namePrefix = namePrefix;
+        this.sortColumn = sortColumn != null ? sortColumn : SortColumn.SCHOOL_ID;
+        this.ascending = ascending;
+        this.limit = limit;
+        this.offset = offset;
+    }
+
+    /**
+     * The default view: pending schools, oldest registration first
+     */
+    public static SchoolQuery pending() {
+        return new SchoolQuery("Pending", null, SortColumn.SCHOOL_ID, true, DEFAULT_LIMIT, 0);
+    }
+
+    /**
+     * Every school, unpaged
+     */
+    public static SchoolQuery all() {
+        return new SchoolQuery(null, null, SortColumn.SCHOOL_ID, true, Integer.MAX_VALUE, 0);
+    }
+
+    /** Null or empty for every status */
+    public String getStatus() {
+        return status;
+    }
+
+    /** Null or empty for every name */
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    public SortColumn getSortColumn() {
+        return sortColumn;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public SchoolQuery withOffset(int newOffset) {
+        return new SchoolQuery(status, namePrefix, sortColumn, ascending, limit, Math.max(0, newOffset));
+    }
+}
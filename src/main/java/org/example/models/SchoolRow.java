@@ -0,0 +1,47 @@
+package org.example.models;
+
+/**
+ * Model class representing one row of AdminSchoolView
+ */
+public class SchoolRow {
+    private final int schoolId;
+    private final String schoolName;
+    private final String registeredBy;
+    private final String status;
+    private final int studentCount;
+
+    public SchoolRow(int schoolId, String schoolName, String registeredBy, String status, int studentCount) {
+        this.schoolId = schoolId;
+        this.schoolName = schoolName;
+        this.registeredBy = registeredBy;
+        this.status = status;
+        this.studentCount = studentCount;
+    }
+
+    public int getSchoolId() {
+        return schoolId;
+    }
+
+    public String getSchoolName() {
+        return schoolName;
+    }
+
+    public String getRegisteredBy() {
+        return registeredBy;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    /**
+     * Copy of this row with a new status, used after an approve/reject
+     */
+    public SchoolRow withStatus(String newStatus) {
+        return new SchoolRow(schoolId, schoolName, registeredBy, newStatus, studentCount);
+    }
+}
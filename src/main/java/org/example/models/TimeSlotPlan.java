@@ -0,0 +1,130 @@
+package org.example.models;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A batch of time slots for one department: every chosen weekday in a date range, times every time window
+ */
+public class TimeSlotPlan {
+    private final int departmentId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Set<DayOfWeek> weekdays;
+    private final List<TimeWindow> windows;
+    private final int capacity;
+
+    public TimeSlotPlan(int departmentId, LocalDate startDate, LocalDate endDate,
+                        Set<DayOfWeek> weekdays, List<TimeWindow> windows, int capacity) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be a positive number");
+        }
+        this.departmentId = departmentId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.weekdays = weekdays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekdays);
+        this.windows = Collections.unmodifiableList(new ArrayList<>(windows));
+        this.capacity = capacity;
+    }
+
+    public int getDepartmentId() {
+        return departmentId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public List<TimeWindow> getWindows() {
+        return windows;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Every date in the range that falls on one of the chosen weekdays, in order
+     */
+    public List<LocalDate> expandDates() {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (weekdays.contains(date.getDayOfWeek())) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * Number of time slots the plan creates
+     */
+    public int getSlotCount() {
+        return expandDates().size() * windows.size();
+    }
+
+    /**
+     * Parse one time window per line in the form {@code HH:mm-HH:mm}; blank lines are skipped
+     */
+    public static List<TimeWindow> parseWindows(String text) {
+        List<TimeWindow> windows = new ArrayList<>();
+        for (String line : text.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s*-\\s*");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid time window '" + trimmed + "', expected HH:MM-HH:MM");
+            }
+            try {
+                windows.add(new TimeWindow(LocalTime.parse(parts[0]), LocalTime.parse(parts[1])));
+            } catch (java.time.format.DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid time in '" + trimmed + "', expected HH:MM-HH:MM");
+            }
+        }
+        return windows;
+    }
+
+    /**
+     * Start and end time of one slot on each generated date
+     */
+    public static class TimeWindow {
+        private final LocalTime start;
+        private final LocalTime end;
+
+        public TimeWindow(LocalTime start, LocalTime end) {
+            if (!end.isAfter(start)) {
+                throw new IllegalArgumentException("Time window " + start + "-" + end + " must end after it starts");
+            }
+            this.start = start;
+            this.end = end;
+        }
+
+        public LocalTime getStart() {
+            return start;
+        }
+
+        public LocalTime getEnd() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return start + "-" + end;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.models;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Model class representing one row of admin_view_time_slots
+ */
+public class TimeSlotRow {
+    private final int timeSlotId;
+    private final String hospitalName;
+    private final String sectionName;
+    private final LocalDate slotDate;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final int capacity;
+    // Students booked into the slot, or null until counted
+    private final Integer bookedCount;
+
+    public TimeSlotRow(int timeSlotId, String hospitalName, String sectionName,
+                       LocalDate slotDate, LocalTime startTime, LocalTime endTime, int capacity) {
+        this(timeSlotId, hospitalName, sectionName, slotDate, startTime, endTime, capacity, null);
+    }
+
+    public TimeSlotRow(int timeSlotId, String hospitalName, String sectionName,
+                       LocalDate slotDate, LocalTime startTime, LocalTime endTime, int capacity, Integer bookedCount) {
+        this.timeSlotId = timeSlotId;
+        this.hospitalName = hospitalName;
+        this.sectionName = sectionName;
+        this.slotDate = slotDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.capacity = capacity;
+        this.bookedCount = bookedCount;
+    }
+
+    public int getTimeSlotId() {
+        return timeSlotId;
+    }
+
+    public String getHospitalName() {
+        return hospitalName;
+    }
+
+    public String getSectionName() {
+        return sectionName;
+    }
+
+    public LocalDate getSlotDate() {
+        return slotDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Integer getBookedCount() {
+        return bookedCount;
+    }
+
+    /**
+     * Booked students as a percentage of capacity, or null until the slot has been counted
+     */
+    public Double getUtilizationPercent() {
+        if (bookedCount == null) {
+            return null;
+        }
+        return capacity > 0 ? bookedCount * 100.0 / capacity : 0.0;
+    }
+
+    /**
+     * Copy of this row with the given booked count
+     */
+    public TimeSlotRow withBookedCount(int newBookedCount) {
+        return new TimeSlotRow(timeSlotId, hospitalName, sectionName, slotDate, startTime, endTime, capacity, newBookedCount);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.models;
+
+import java.time.LocalDateTime;
+
+/**
+ * Model class representing one user returned by FetchUsersByApproval
+ */
+public class UserRow {
+    private final int userId;
+    private final String fullName;
+    private final String email;
+    private final LocalDateTime addedAt;
+
+    public UserRow(int userId, String fullName, String email, LocalDateTime addedAt) {
+        this.userId = userId;
+        this.fullName = fullName;
+        this.email = email;
+        this.addedAt = addedAt;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public LocalDateTime getAddedAt() {
+        return addedAt;
+    }
+}
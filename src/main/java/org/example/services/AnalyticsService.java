@@ -0,0 +1,216 @@
+package org.example.services;
+
+import org.example.models.AnalyticsSnapshot;
+import org.example.models.AnalyticsSnapshot.BookingStats;
+import org.example.models.AnalyticsSnapshot.CellKey;
+import org.example.models.AnalyticsSnapshot.DepartmentKey;
+import org.example.models.BookingRow;
+import org.example.models.TimeSlotRow;
+import org.example.utils.DatabaseExecutor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Builds the reports shown on the Analytics &amp; Reports tab.
+ * Bookings and time slots are loaded once, in parallel, and aggregated with fork-join tasks into an
+ * {@link AnalyticsSnapshot}. The snapshot is cached, so switching reports or filters never queries again;
+ * only an explicit rebuild does.
+ */
+public class AnalyticsService {
+
+    private static final String APPROVED_STATUS = "Approved";
+    private static final String PENDING_STATUS = "Pending";
+    private static final String REJECTED_STATUS = "Rejected";
+    private static final String UNKNOWN = "(unknown)";
+    // Rows per leaf task; smaller ranges are not worth splitting further
+    private static final int SPLIT_THRESHOLD = 2_000;
+
+    private final BookingServices bookingServices = new BookingServices();
+    private final HospitalService hospitalService = new HospitalService();
+
+    private volatile AnalyticsSnapshot cachedSnapshot;
+    private CompletableFuture<AnalyticsSnapshot> building;
+
+    /**
+     * The last snapshot built, or null before the first build completes
+     */
+    public AnalyticsSnapshot getCachedSnapshot() {
+        return cachedSnapshot;
+    }
+
+    /**
+     * The cached snapshot, or a new build if there is none yet or {@code rebuild} is set.
+     * Concurrent callers share the build that is already running.
+     */
+    public synchronized CompletableFuture<AnalyticsSnapshot> getSnapshotAsync(boolean rebuild) {
+        if (!rebuild && cachedSnapshot != null) {
+            return CompletableFuture.completedFuture(cachedSnapshot);
+        }
+        if (building == null) {
+            long started = System.nanoTime();
+            CompletableFuture<List<BookingRow>> bookings = DatabaseExecutor.supplyAsync(bookingServices::fetchBookingOverview);
+            CompletableFuture<List<TimeSlotRow>> timeSlots = DatabaseExecutor.supplyAsync(hospitalService::fetchTimeSlots);
+
+            CompletableFuture<AnalyticsSnapshot> build = bookings.thenCombineAsync(timeSlots,
+                    (bookingRows, slotRows) -> buildSnapshot(bookingRows, slotRows, started), ForkJoinPool.commonPool());
+            building = build;
+            build.whenComplete((snapshot, error) -> finishBuild(build, snapshot));
+        }
+        return building;
+    }
+
+    private synchronized void finishBuild(CompletableFuture<AnalyticsSnapshot> build, AnalyticsSnapshot snapshot) {
+        if (snapshot != null) {
+            cachedSnapshot = snapshot;
+        }
+        if (building == build) {
+            building = null;
+        }
+    }
+
+    /**
+     * Aggregate bookings and time slot capacity; the two aggregations run side by side on the fork-join pool
+     */
+    private AnalyticsSnapshot buildSnapshot(List<BookingRow> bookings, List<TimeSlotRow> timeSlots, long startedNanos) {
+        LocalDate today = LocalDate.now();
+        BookingRow[] bookingArray = bookings.toArray(new BookingRow[0]);
+        TimeSlotRow[] slotArray = timeSlots.toArray(new TimeSlotRow[0]);
+
+        CapacityTask capacityTask = new CapacityTask(slotArray, 0, slotArray.length);
+        capacityTask.fork();
+        BookingPartial bookingTotals = new BookingTask(bookingArray, 0, bookingArray.length, today).invoke();
+        Map<DepartmentKey, Integer> capacity = capacityTask.join();
+
+        long buildMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+        System.out.println("[ANALYTICS] Built snapshot from " + bookingArray.length + " bookings and "
+                + slotArray.length + " time slots in " + buildMillis + " ms");
+        return new AnalyticsSnapshot(bookingTotals.cube, bookingTotals.leadTimes, capacity, LocalDateTime.now(), buildMillis);
+    }
+
+    private static String nameOrUnknown(String name) {
+        return name == null || name.isEmpty() ? UNKNOWN : name;
+    }
+
+    /**
+     * Partial booking cube and lead time histogram for a range of bookings
+     */
+    private static final class BookingPartial {
+        private final Map<CellKey, BookingStats> cube = new HashMap<>();
+        private final Map<String, int[]> leadTimes = new HashMap<>();
+
+        BookingPartial merge(BookingPartial other) {
+            other.cube.forEach((key, stats) -> cube.merge(key, stats, BookingStats::plus));
+            other.leadTimes.forEach((hospital, buckets) -> {
+                int[] mine = leadTimes.computeIfAbsent(hospital, h -> new int[AnalyticsSnapshot.LEAD_TIME_BUCKETS.length]);
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] += buckets[i];
+                }
+            });
+            return this;
+        }
+    }
+
+    private static final class BookingTask extends RecursiveTask<BookingPartial> {
+        private final BookingRow[] rows;
+        private final int from;
+        private final int to;
+        private final LocalDate today;
+
+        BookingTask(BookingRow[] rows, int from, int to, LocalDate today) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.today = today;
+        }
+
+        @Override
+        protected BookingPartial compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                BookingTask left = new BookingTask(rows, from, middle, today);
+                left.fork();
+                BookingPartial right = new BookingTask(rows, middle, to, today).compute();
+                return left.join().merge(right);
+            }
+
+            BookingPartial partial = new BookingPartial();
+            for (int i = from; i < to; i++) {
+                BookingRow row = rows[i];
+                if (row.getSlotDate() == null) {
+                    continue;
+                }
+                String hospital = nameOrUnknown(row.getHospitalName());
+                boolean approved = APPROVED_STATUS.equalsIgnoreCase(row.getStatus());
+                boolean pending = PENDING_STATUS.equalsIgnoreCase(row.getStatus());
+                boolean rejected = REJECTED_STATUS.equalsIgnoreCase(row.getStatus());
+
+                CellKey key = new CellKey(hospital, nameOrUnknown(row.getDepartment()),
+                        row.getSlotDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+                partial.cube.merge(key, new BookingStats(1, row.getStudentCount(), approved ? 1 : 0, pending ? 1 : 0,
+                        rejected ? 0 : row.getStudentCount()), BookingStats::plus);
+
+                if (pending) {
+                    int[] buckets = partial.leadTimes.computeIfAbsent(hospital,
+                            h -> new int[AnalyticsSnapshot.LEAD_TIME_BUCKETS.length]);
+                    buckets[leadTimeBucket(ChronoUnit.DAYS.between(today, row.getSlotDate()))]++;
+                }
+            }
+            return partial;
+        }
+
+        /**
+         * Index into {@link AnalyticsSnapshot#LEAD_TIME_BUCKETS} for the days left before the slot date
+         */
+        private static int leadTimeBucket(long daysLeft) {
+            if (daysLeft < 0) return 0;
+            if (daysLeft <= 3) return 1;
+            if (daysLeft <= 7) return 2;
+            if (daysLeft <= 14) return 3;
+            if (daysLeft <= 30) return 4;
+            return 5;
+        }
+    }
+
+    private static final class CapacityTask extends RecursiveTask<Map<DepartmentKey, Integer>> {
+        private final TimeSlotRow[] rows;
+        private final int from;
+        private final int to;
+
+        CapacityTask(TimeSlotRow[] rows, int from, int to) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<DepartmentKey, Integer> compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                CapacityTask left = new CapacityTask(rows, from, middle);
+                left.fork();
+                Map<DepartmentKey, Integer> right = new CapacityTask(rows, middle, to).compute();
+                Map<DepartmentKey, Integer> merged = left.join();
+                right.forEach((key, capacity) -> merged.merge(key, capacity, Integer::sum));
+                return merged;
+            }
+
+            Map<DepartmentKey, Integer> capacity = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                TimeSlotRow row = rows[i];
+                capacity.merge(new DepartmentKey(nameOrUnknown(row.getHospitalName()), nameOrUnknown(row.getSectionName())),
+                        row.getCapacity(), Integer::sum);
+            }
+            return capacity;
+        }
+    }
+}
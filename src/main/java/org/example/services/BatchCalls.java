@@ -0,0 +1,77 @@
+package org.example.services;
+
+import org.example.DatabaseConnection;
+import org.example.models.BatchResult;
+import org.example.utils.SingleFlight;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Runs a single-id stored procedure for many ids as one JDBC batch in one transaction.
+ *
+ * The driver still sends one CALL per id: Connector/J only rewrites batched INSERTs, never CALLs, so the batch
+ * is N round trips on one connection. What it saves is the per-id connection borrow and autocommit,
+ * and it makes the whole set commit or roll back together.
+ */
+final class BatchCalls {
+
+    private BatchCalls() {
+    }
+
+    /**
+     * Call {@code sql} (one int parameter) once per id.
+     * Ids whose call updates no rows are reported as failed; any statement error rolls back the whole batch.
+     */
+    static BatchResult<Integer> callForEachId(String sql, Collection<Integer> ids, String noun) {
+        BatchResult<Integer> result = new BatchResult<>();
+        if (ids == null || ids.isEmpty()) {
+            return result;
+        }
+        List<Integer> idList = new ArrayList<>(ids);
+
+        try (java.sql.Connection conn = DatabaseConnection.Connect()) {
+            if (conn == null) {
+                result.failAll(idList, "Database connection is null");
+                return result;
+            }
+
+            conn.setAutoCommit(false);
+            try (java.sql.PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (Integer id : idList) {
+                    stmt.setInt(1, id);
+                    stmt.addBatch();
+                }
+                int[] counts = stmt.executeBatch();
+                conn.commit();
+                SingleFlight.invalidate();
+
+                for (int i = 0; i < idList.size(); i++) {
+                    if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                        result.addSuccess(idList.get(i));
+                    } else {
+                        result.addFailure(idList.get(i), "No rows updated; " + noun + " might not exist");
+                    }
+                }
+                System.out.println("[SUCCESS] " + sql + ": " + result.getSucceeded().size() + " of " + idList.size()
+                        + " " + noun + "s updated in one batch");
+            } catch (BatchUpdateException e) {
+                conn.rollback();
+                System.err.println("[ERROR] Batch " + sql + " rolled back: " + e.getMessage());
+                result.failAll(idList, "Rolled back: " + e.getMessage());
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (Exception e) {
+            System.err.println("[ERROR] Batch " + sql + " failed for " + idList + ": " + e.getMessage());
+            e.printStackTrace();
+            result.failAll(idList, e.getMessage());
+        }
+        return result;
+    }
+}
@@ -1,39 +1,94 @@
 package org.example.services;
 
 import org.example.DatabaseConnection;
+import org.example.models.BatchResult;
+import org.example.models.BookingRow;
+import org.example.utils.SingleFlight;
 
 import javax.swing.*;
+import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class BookingServices {
 
-    public Object[][] fetchBookingOverview() {
-        List<Object[]> bookings = new ArrayList<>();
+    public List<BookingRow> fetchBookingOverview() {
         String sql = "SELECT * FROM Admin_BookingOverviewView";
+        return SingleFlight.call(sql, () -> {
+            List<BookingRow> bookings = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null;
+                 java.sql.ResultSet rs = stmt != null ? stmt.executeQuery() : null) {
+
+                if (rs != null) {
+                    readBookingRows(rs, bookings);
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null,
+                        "Failed to load booking overview: " + e.getMessage(),
+                        "Database Error", JOptionPane.ERROR_MESSAGE));
+            }
+            return bookings;
+        });
+    }
 
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null;
-             java.sql.ResultSet rs = stmt != null ? stmt.executeQuery() : null) {
-
-            while (rs != null && rs.next()) {
-                Object[] row = new Object[8];
-                row[0] = rs.getObject("booking_id");
-                row[1] = rs.getObject("school_name");
-                row[2] = rs.getObject("hospital_name");
-                row[3] = rs.getObject("department");
-                row[4] = rs.getObject("slot_date");
-                row[5] = rs.getObject("time_range");
-                row[6] = rs.getObject("student_count");
-                row[7] = rs.getObject("appointment_status");
-                bookings.add(row);
+    /**
+     * Fetch one page of the booking overview in booking_id order using keyset pagination:
+     * the query seeks straight to {@code afterBookingId} instead of skipping rows with OFFSET.
+     *
+     * @param afterBookingId only bookings with a larger id are returned (0 for the first page)
+     * @param upToBookingId  optional inclusive upper bound, used to reload a page that was evicted; null for none
+     * @param limit          maximum number of rows in the page
+     */
+    public List<BookingRow> fetchBookingPage(int afterBookingId, Integer upToBookingId, int limit) throws SQLException {
+        String sql = upToBookingId == null
+                ? "SELECT * FROM Admin_BookingOverviewView WHERE booking_id > ? ORDER BY booking_id LIMIT ?"
+                : "SELECT * FROM Admin_BookingOverviewView WHERE booking_id > ? AND booking_id <= ? ORDER BY booking_id LIMIT ?";
+        List<BookingRow> bookings = new ArrayList<>();
+
+        try (java.sql.Connection conn = DatabaseConnection.Connect()) {
+            if (conn == null) {
+                throw new SQLException("No database connection available");
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(null, "Failed to load booking overview: " + e.getMessage(),
-                    "Database Error", JOptionPane.ERROR_MESSAGE);
+            try (java.sql.PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                stmt.setInt(index++, afterBookingId);
+                if (upToBookingId != null) {
+                    stmt.setInt(index++, upToBookingId);
+                }
+                stmt.setInt(index, limit);
+                try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                    readBookingRows(rs, bookings);
+                }
+            }
+        }
+        return bookings;
+    }
+
+    private void readBookingRows(java.sql.ResultSet rs, List<BookingRow> bookings) throws SQLException {
+        // Resolve column positions once per result set instead of by name on every row
+        int idCol = rs.findColumn("booking_id");
+        int schoolCol = rs.findColumn("school_name");
+        int hospitalCol = rs.findColumn("hospital_name");
+        int departmentCol = rs.findColumn("department");
+        int dateCol = rs.findColumn("slot_date");
+        int timeCol = rs.findColumn("time_range");
+        int countCol = rs.findColumn("student_count");
+        int statusCol = rs.findColumn("appointment_status");
+        while (rs.next()) {
+            bookings.add(new BookingRow(
+                    rs.getInt(idCol),
+                    rs.getString(schoolCol),
+                    rs.getString(hospitalCol),
+                    rs.getString(departmentCol),
+                    rs.getObject(dateCol, LocalDate.class),
+                    rs.getString(timeCol),
+                    rs.getInt(countCol),
+                    rs.getString(statusCol)));
         }
-        return bookings.toArray(new Object[0][0]);
     }
 
     public boolean approveBooking(int appointmentId) {
@@ -45,6 +100,7 @@ public class BookingServices {
             if (stmt != null) {
                 stmt.setInt(1, appointmentId);
                 int rowsUpdated = stmt.executeUpdate();
+                SingleFlight.invalidate();
                 return rowsUpdated > 0; // true if at least one row was updated
             }
 
@@ -55,36 +111,44 @@ public class BookingServices {
         return false;
     }
 
+    /**
+     * Approve many bookings in one transaction with a single JDBC batch
+     */
+    public BatchResult<Integer> approveBookings(Collection<Integer> appointmentIds) {
+        return BatchCalls.callForEachId("{CALL ApproveBooking(?)}", appointmentIds, "booking");
+    }
+
     public Object[][] fetchStudentsByBooking(int appointmentId) {
-        List<Object[]> students = new ArrayList<>();
         String sql = "{CALL Admin_GetStudentsByAppointment(?)}";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-
-            if (stmt != null) {
-                stmt.setInt(1, appointmentId);
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[5];
-                        row[0] = rs.getObject("student_id");
-                        row[1] = rs.getObject("firstname");
-                        row[2] = rs.getObject("lastname");
-                        row[3] = rs.getObject("email");
-                        row[4] = rs.getObject("school_name");
-                        students.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<Object[]> students = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+
+                if (stmt != null) {
+                    stmt.setInt(1, appointmentId);
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            Object[] row = new Object[5];
+                            row[0] = rs.getObject("student_id");
+                            row[1] = rs.getObject("firstname");
+                            row[2] = rs.getObject("lastname");
+                            row[3] = rs.getObject("email");
+                            row[4] = rs.getObject("school_name");
+                            students.add(row);
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                // Never block the worker, or the callers sharing this read, on a modal dialog
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null,
+                        "Failed to load students for booking: " + e.getMessage(),
+                        "Database Error", JOptionPane.ERROR_MESSAGE));
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(null,
-                    "Failed to load students for booking: " + e.getMessage(),
-                    "Database Error",
-                    JOptionPane.ERROR_MESSAGE);
-        }
 
-        return students.toArray(new Object[0][0]);
+            return students.toArray(new Object[0][0]);
+        }, appointmentId);
     }
 
 
@@ -0,0 +1,132 @@
+package org.example.services;
+
+import org.example.DatabaseConnection;
+import org.example.utils.CsvUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Streams query results straight to CSV files.
+ * Rows are read one at a time from a streaming result set and written through a buffered writer,
+ * so memory use does not grow with the number of rows.
+ */
+public class CsvExportService {
+
+    public static final String[] STUDENT_BOOKING_HEADERS = {
+        "Student ID", "Student Name", "Email", "Booking ID",
+        "Date", "Start Time", "End Time", "Status", "Booking Date"
+    };
+    private static final String[] STUDENT_BOOKING_COLUMNS = {
+        "student_id", "student_name", "email", "appointment_id",
+        "slot_date", "start_time", "end_time", "appointment_status", "booking_date"
+    };
+    private static final int PROGRESS_INTERVAL_ROWS = 1000;
+
+    /**
+     * Receives the number of rows written so far, on the exporting thread
+     */
+    public interface ProgressListener {
+        void onProgress(long rowsWritten);
+    }
+
+    /**
+     * Handle for a running export; {@link #cancel()} may be called from any thread
+     */
+    public static class ExportJob {
+        private volatile boolean cancelled;
+        private volatile java.sql.Statement statement;
+
+        /**
+         * Stop the export; an in-flight query is cancelled on the server
+         */
+        public void cancel() {
+            cancelled = true;
+            java.sql.Statement running = statement;
+            if (running != null) {
+                try {
+                    running.cancel();
+                } catch (SQLException e) {
+                    System.err.println("Failed to cancel export query: " + e.getMessage());
+                }
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * Export the bookings of one school's students in one department, as shown in the department drill-down.
+     * The file is written next to {@code target} and moved into place only when complete, so a failed or
+     * cancelled export never leaves a truncated file behind.
+     *
+     * @return number of rows written
+     * @throws CancellationException if the job was cancelled
+     */
+    public long exportStudentsBySchoolAndDepartment(int schoolId, int departmentId, Path target,
+                                                    ExportJob job, ProgressListener listener)
+            throws SQLException, IOException {
+        String sql = "{CALL Admin_Fetch_Students_By_School_And_Department(?, ?)}";
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), "export-", ".csv.tmp");
+        long rows = 0;
+
+        try (java.sql.Connection conn = DatabaseConnection.Connect()) {
+            if (conn == null) {
+                throw new SQLException("Database connection is null");
+            }
+            // Forward-only, read-only and a fetch size of Integer.MIN_VALUE make the MySQL driver stream rows
+            // instead of buffering the whole result; these statements bypass the pool's statement cache
+            try (java.sql.CallableStatement stmt = conn.prepareCall(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                 BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                stmt.setFetchSize(Integer.MIN_VALUE);
+                stmt.setInt(1, schoolId);
+                stmt.setInt(2, departmentId);
+                job.statement = stmt;
+
+                CsvUtils.writeLine(writer, STUDENT_BOOKING_HEADERS);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    int[] columns = new int[STUDENT_BOOKING_COLUMNS.length];
+                    for (int i = 0; i < columns.length; i++) {
+                        columns[i] = rs.findColumn(STUDENT_BOOKING_COLUMNS[i]);
+                    }
+                    String[] fields = new String[columns.length];
+                    while (!job.isCancelled() && rs.next()) {
+                        for (int i = 0; i < columns.length; i++) {
+                            fields[i] = rs.getString(columns[i]);
+                        }
+                        CsvUtils.writeLine(writer, fields);
+                        if (++rows % PROGRESS_INTERVAL_ROWS == 0) {
+                            listener.onProgress(rows);
+                        }
+                    }
+                }
+            } finally {
+                job.statement = null;
+            }
+
+            if (job.isCancelled()) {
+                throw new CancellationException("Export cancelled after " + rows + " rows");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            listener.onProgress(rows);
+            System.out.println("[SUCCESS] Exported " + rows + " student bookings to " + target);
+            return rows;
+        } catch (SQLException e) {
+            if (job.isCancelled()) {
+                throw new CancellationException("Export cancelled after " + rows + " rows");
+            }
+            throw e;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,661 @@
+package org.example.services;
+
+import org.example.DatabaseConnection;
+import org.example.utils.CsvUtils;
+import org.example.utils.SingleFlight;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Imports hospitals, departments and time slots from a CSV file.
+ *
+ * Each line starts with its record type:
+ * <pre>
+ * hospital,&lt;name&gt;,&lt;address&gt;,&lt;contact&gt;,&lt;description&gt;
+ * department,&lt;hospital name&gt;,&lt;section name&gt;,&lt;price per student&gt;
+ * slot,&lt;hospital name&gt;,&lt;section name&gt;,&lt;YYYY-MM-DD&gt;,&lt;HH:MM start&gt;,&lt;HH:MM end&gt;,&lt;capacity&gt;
+ * </pre>
+ * Blank lines, lines starting with {@code #} and a {@code type,...} header are ignored. Rows may refer to
+ * hospitals and departments that already exist or that appear earlier in the file.
+ *
+ * The file is streamed in chunks of {@code batchSize} lines. Each chunk is parsed in parallel, its names are
+ * resolved against an in-memory index of existing hospitals, departments and dates, and it is written as
+ * batched procedure calls in one transaction. A failing chunk is rolled back and reported without stopping
+ * the import. Only one chunk and a bounded list of errors are held in memory at a time.
+ */
+public class CsvImportService {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    /**
+     * Receives progress after every chunk, on the importing thread
+     */
+    public interface ProgressListener {
+        void onProgress(ImportProgress progress);
+    }
+
+    /**
+     * Import the file; stops after the current chunk once {@code cancelRequested} returns true.
+     * Cancelling is cooperative: interrupting the importing thread would close the file channel mid-read.
+     */
+    public ImportReport importFile(Path file, int batchSize, ProgressListener listener,
+                                   BooleanSupplier cancelRequested) throws IOException, SQLException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        long totalBytes = Math.max(1, Files.size(file));
+        ImportReport report = new ImportReport();
+
+        try (CountingInputStream in = new CountingInputStream(Files.newInputStream(file));
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+             java.sql.Connection conn = DatabaseConnection.Connect()) {
+            if (conn == null) {
+                throw new SQLException("Database connection is null");
+            }
+            ReferenceIndex index = new ReferenceIndex();
+            index.reloadAll(conn);
+
+            List<RawLine> chunk = new ArrayList<>(batchSize);
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (isIgnored(line, lineNumber)) {
+                    continue;
+                }
+                chunk.add(new RawLine(lineNumber, line));
+                if (chunk.size() == batchSize) {
+                    importChunk(conn, chunk, index, report);
+                    chunk.clear();
+                    report.linesRead = lineNumber;
+                    // Bytes the reader has consumed, so slightly ahead of the line just parsed
+                    listener.onProgress(new ImportProgress(report, Math.min(1.0, in.getCount() / (double) totalBytes)));
+                    if (cancelRequested.getAsBoolean()) {
+                        report.cancelled = true;
+                        break;
+                    }
+                }
+            }
+            if (!report.cancelled && !chunk.isEmpty()) {
+                importChunk(conn, chunk, index, report);
+            }
+            if (!report.cancelled) {
+                report.linesRead = lineNumber;
+                listener.onProgress(new ImportProgress(report, 1.0));
+            }
+        }
+
+        System.out.println("[CSV IMPORT] " + file.getFileName() + ": " + report.getSummary(0));
+        return report;
+    }
+
+    private static boolean isIgnored(String line, int lineNumber) {
+        String trimmed = line.trim();
+        return trimmed.isEmpty()
+                || trimmed.startsWith("#")
+                || (lineNumber == 1 && trimmed.toLowerCase(Locale.ROOT).startsWith("type,"));
+    }
+
+    private void importChunk(java.sql.Connection conn, List<RawLine> chunk, ReferenceIndex index,
+                             ImportReport report) throws SQLException {
+        // Parsing and field validation do not depend on each other, so they run in parallel
+        List<ParsedLine> parsed = chunk.parallelStream()
+                .map(CsvImportService::parse)
+                .collect(Collectors.toList());
+
+        List<HospitalRecord> hospitals = new ArrayList<>();
+        List<DepartmentRecord> departments = new ArrayList<>();
+        List<SlotRecord> slots = new ArrayList<>();
+        for (ParsedLine line : parsed) {
+            if (line.error != null) {
+                report.addError(line.lineNumber, line.error);
+            } else if (line.record instanceof HospitalRecord) {
+                hospitals.add((HospitalRecord) line.record);
+            } else if (line.record instanceof DepartmentRecord) {
+                departments.add((DepartmentRecord) line.record);
+            } else {
+                slots.add((SlotRecord) line.record);
+            }
+        }
+
+        ImportReport chunkReport = new ImportReport();
+        conn.setAutoCommit(false);
+        try {
+            writeHospitals(conn, hospitals, index, chunkReport);
+            writeDepartments(conn, departments, index, chunkReport);
+            writeSlots(conn, slots, index, chunkReport);
+            conn.commit();
+            SingleFlight.invalidate();
+            report.merge(chunkReport);
+        } catch (SQLException e) {
+            conn.rollback();
+            System.err.println("[ERROR] CSV import chunk at line " + chunk.get(0).lineNumber + " rolled back: " + e.getMessage());
+            for (ParsedLine line : parsed) {
+                if (line.error == null) {
+                    report.addError(line.lineNumber, "Batch rolled back: " + e.getMessage());
+                }
+            }
+            // Names written earlier in the rolled back transaction must not resolve any more
+            index.reloadAll(conn);
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private void writeHospitals(java.sql.Connection conn, List<HospitalRecord> hospitals, ReferenceIndex index,
+                                ImportReport report) throws SQLException {
+        Set<String> pending = new HashSet<>();
+        int added = 0;
+        try (java.sql.CallableStatement stmt = conn.prepareCall("{CALL add_hospital(?, ?, ?, ?)}")) {
+            for (HospitalRecord hospital : hospitals) {
+                String key = normalize(hospital.name);
+                if (index.hospitals.containsKey(key) || !pending.add(key)) {
+                    report.skipped++;
+                    continue;
+                }
+                stmt.setString(1, hospital.name);
+                stmt.setString(2, hospital.address);
+                stmt.setString(3, hospital.contact.isEmpty() ? null : hospital.contact);
+                stmt.setString(4, hospital.description.isEmpty() ? null : hospital.description);
+                stmt.addBatch();
+                added++;
+            }
+            if (added > 0) {
+                stmt.executeBatch();
+                report.imported += added;
+                index.reloadHospitals(conn);
+            }
+        }
+    }
+
+    private void writeDepartments(java.sql.Connection conn, List<DepartmentRecord> departments, ReferenceIndex index,
+                                  ImportReport report) throws SQLException {
+        Set<String> pending = new HashSet<>();
+        int added = 0;
+        try (java.sql.CallableStatement stmt = conn.prepareCall("{CALL Add_Department(?, ?, ?)}")) {
+            for (DepartmentRecord department : departments) {
+                Integer hospitalId = index.hospitals.get(normalize(department.hospitalName));
+                if (hospitalId == null) {
+                    report.addError(department.lineNumber, "Unknown hospital '" + department.hospitalName + "'");
+                    continue;
+                }
+                String key = departmentKey(department.hospitalName, department.sectionName);
+                if (index.departments.containsKey(key) || !pending.add(key)) {
+                    report.skipped++;
+                    continue;
+                }
+                stmt.setInt(1, hospitalId);
+                stmt.setString(2, department.sectionName);
+                stmt.setDouble(3, department.price);
+                stmt.addBatch();
+                added++;
+            }
+            if (added > 0) {
+                stmt.executeBatch();
+                report.imported += added;
+                index.reloadDepartments(conn);
+            }
+        }
+    }
+
+    private void writeSlots(java.sql.Connection conn, List<SlotRecord> slots, ReferenceIndex index,
+                            ImportReport report) throws SQLException {
+        List<SlotRecord> resolved = new ArrayList<>(slots.size());
+        for (SlotRecord slot : slots) {
+            if (index.departments.containsKey(departmentKey(slot.hospitalName, slot.sectionName))) {
+                resolved.add(slot);
+            } else {
+                report.addError(slot.lineNumber, "Unknown department '" + slot.sectionName
+                        + "' at hospital '" + slot.hospitalName + "'");
+            }
+        }
+        if (resolved.isEmpty()) {
+            return;
+        }
+
+        // Dates that do not exist yet for their department are added first, once each
+        Set<String> newDates = new HashSet<>();
+        LocalDate minDate = null;
+        LocalDate maxDate = null;
+        try (java.sql.CallableStatement stmt = conn.prepareCall("{CALL AddAvailableDate(?, ?)}")) {
+            for (SlotRecord slot : resolved) {
+                String departmentKey = departmentKey(slot.hospitalName, slot.sectionName);
+                String dateKey = slotDateKey(departmentKey, slot.date);
+                if (index.slotDates.containsKey(dateKey) || !newDates.add(dateKey)) {
+                    continue;
+                }
+                stmt.setInt(1, index.departments.get(departmentKey));
+                stmt.setDate(2, java.sql.Date.valueOf(slot.date));
+                stmt.addBatch();
+                minDate = minDate == null || slot.date.isBefore(minDate) ? slot.date : minDate;
+                maxDate = maxDate == null || slot.date.isAfter(maxDate) ? slot.date : maxDate;
+            }
+            if (!newDates.isEmpty()) {
+                stmt.executeBatch();
+                index.reloadSlotDates(conn, minDate, maxDate);
+            }
+        }
+
+        try (java.sql.CallableStatement stmt = conn.prepareCall("{CALL AddTimeSlot(?, ?, ?, ?)}")) {
+            for (SlotRecord slot : resolved) {
+                String dateKey = slotDateKey(departmentKey(slot.hospitalName, slot.sectionName), slot.date);
+                Integer slotDateId = index.slotDates.get(dateKey);
+                if (slotDateId == null) {
+                    throw new SQLException("Available date " + slot.date + " was not created for line " + slot.lineNumber);
+                }
+                stmt.setInt(1, slotDateId);
+                stmt.setString(2, slot.start.toString());
+                stmt.setString(3, slot.end.toString());
+                stmt.setInt(4, slot.capacity);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            report.imported += resolved.size();
+        }
+    }
+
+    private static ParsedLine parse(RawLine raw) {
+        try {
+            List<String> fields = CsvUtils.parseLine(raw.text);
+            String type = fields.get(0).toLowerCase(Locale.ROOT);
+            switch (type) {
+                case "hospital":
+                    requireFields(fields, 5);
+                    return new ParsedLine(raw.lineNumber, new HospitalRecord(raw.lineNumber,
+                            requireText(fields.get(1), "Hospital name"), requireText(fields.get(2), "Address"),
+                            fields.get(3), fields.get(4)));
+                case "department":
+                    requireFields(fields, 4);
+                    double price = Double.parseDouble(fields.get(3));
+                    if (price < 0) {
+                        throw new IllegalArgumentException("Price must not be negative");
+                    }
+                    return new ParsedLine(raw.lineNumber, new DepartmentRecord(raw.lineNumber,
+                            requireText(fields.get(1), "Hospital name"), requireText(fields.get(2), "Section name"), price));
+                case "slot":
+                    requireFields(fields, 7);
+                    LocalTime start = LocalTime.parse(fields.get(4));
+                    LocalTime end = LocalTime.parse(fields.get(5));
+                    if (!end.isAfter(start)) {
+                        throw new IllegalArgumentException("End time must be after start time");
+                    }
+                    int capacity = Integer.parseInt(fields.get(6));
+                    if (capacity <= 0) {
+                        throw new IllegalArgumentException("Capacity must be a positive number");
+                    }
+                    return new ParsedLine(raw.lineNumber, new SlotRecord(raw.lineNumber,
+                            requireText(fields.get(1), "Hospital name"), requireText(fields.get(2), "Section name"),
+                            LocalDate.parse(fields.get(3)), start, end, capacity));
+                default:
+                    throw new IllegalArgumentException("Unknown record type '" + fields.get(0) + "'");
+            }
+        } catch (NumberFormatException e) {
+            return new ParsedLine(raw.lineNumber, "Invalid number: " + e.getMessage());
+        } catch (DateTimeParseException e) {
+            return new ParsedLine(raw.lineNumber, "Invalid date or time '" + e.getParsedString() + "'");
+        } catch (IllegalArgumentException e) {
+            return new ParsedLine(raw.lineNumber, e.getMessage());
+        }
+    }
+
+    private static void requireFields(List<String> fields, int count) {
+        if (fields.size() != count) {
+            throw new IllegalArgumentException("Expected " + count + " fields for " + fields.get(0)
+                    + " but found " + fields.size());
+        }
+    }
+
+    private static String requireText(String value, String field) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String departmentKey(String hospitalName, String sectionName) {
+        return normalize(hospitalName) + '\u0000' + normalize(sectionName);
+    }
+
+    private static String slotDateKey(String departmentKey, LocalDate date) {
+        return departmentKey + '\u0000' + date;
+    }
+
+    /**
+     * Ids of existing hospitals, departments and available dates by normalized name
+     */
+    private static final class ReferenceIndex {
+        private final Map<String, Integer> hospitals = new HashMap<>();
+        private final Map<String, Integer> departments = new HashMap<>();
+        private final Map<String, Integer> slotDates = new HashMap<>();
+
+        void reloadAll(java.sql.Connection conn) throws SQLException {
+            reloadHospitals(conn);
+            reloadDepartments(conn);
+            slotDates.clear();
+            reloadSlotDates(conn, null, null);
+        }
+
+        void reloadHospitals(java.sql.Connection conn) throws SQLException {
+            hospitals.clear();
+            try (java.sql.PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT hospital_id, hospital_name FROM admin_hospital_combo_view");
+                 java.sql.ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    hospitals.put(normalize(rs.getString(2)), rs.getInt(1));
+                }
+            }
+        }
+
+        void reloadDepartments(java.sql.Connection conn) throws SQLException {
+            departments.clear();
+            try (java.sql.PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT department_id, hospital_name, section_name FROM view_departments");
+                 java.sql.ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    departments.put(departmentKey(rs.getString(2), rs.getString(3)), rs.getInt(1));
+                }
+            }
+        }
+
+        /**
+         * Add the available dates between {@code from} and {@code to}, or all of them if both are null
+         */
+        void reloadSlotDates(java.sql.Connection conn, LocalDate from, LocalDate to) throws SQLException {
+            String sql = "SELECT slot_date_id, hospital_name, section_name, slot_date FROM admin_view_slot_dates"
+                    + (from != null ? " WHERE slot_date BETWEEN ? AND ?" : "");
+            try (java.sql.PreparedStatement stmt = conn.prepareStatement(sql)) {
+                if (from != null) {
+                    stmt.setDate(1, java.sql.Date.valueOf(from));
+                    stmt.setDate(2, java.sql.Date.valueOf(to));
+                }
+                try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        String key = slotDateKey(departmentKey(rs.getString(2), rs.getString(3)),
+                                rs.getObject(4, LocalDate.class));
+                        slotDates.putIfAbsent(key, rs.getInt(1));
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class RawLine {
+        private final int lineNumber;
+        private final String text;
+
+        RawLine(int lineNumber, String text) {
+            this.lineNumber = lineNumber;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Counts the bytes read through it, for progress against the file size
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * A parsed record, or the reason the line is invalid
+     */
+    private static final class ParsedLine {
+        private final int lineNumber;
+        private final Object record;
+        private final String error;
+
+        ParsedLine(int lineNumber, Object record) {
+            this.lineNumber = lineNumber;
+            this.record = record;
+            this.error = null;
+        }
+
+        ParsedLine(int lineNumber, String error) {
+            this.lineNumber = lineNumber;
+            this.record = null;
+            this.error = error;
+        }
+    }
+
+    private static final class HospitalRecord {
+        private final int lineNumber;
+        private final String name;
+        private final String address;
+        private final String contact;
+        private final String description;
+
+        HospitalRecord(int lineNumber, String name, String address, String contact, String description) {
+            this.lineNumber = lineNumber;
+            this.name = name;
+            this.address = address;
+            this.contact = contact;
+            this.description = description;
+        }
+    }
+
+    private static final class DepartmentRecord {
+        private final int lineNumber;
+        private final String hospitalName;
+        private final String sectionName;
+        private final double price;
+
+        DepartmentRecord(int lineNumber, String hospitalName, String sectionName, double price) {
+            this.lineNumber = lineNumber;
+            this.hospitalName = hospitalName;
+            this.sectionName = sectionName;
+            this.price = price;
+        }
+    }
+
+    private static final class SlotRecord {
+        private final int lineNumber;
+        private final String hospitalName;
+        private final String sectionName;
+        private final LocalDate date;
+        private final LocalTime start;
+        private final LocalTime end;
+        private final int capacity;
+
+        SlotRecord(int lineNumber, String hospitalName, String sectionName,
+                   LocalDate date, LocalTime start, LocalTime end, int capacity) {
+            this.lineNumber = lineNumber;
+            this.hospitalName = hospitalName;
+            this.sectionName = sectionName;
+            this.date = date;
+            this.start = start;
+            this.end = end;
+            this.capacity = capacity;
+        }
+    }
+
+    /**
+     * One rejected line
+     */
+    public static class LineError {
+        private final int lineNumber;
+        private final String message;
+
+        public LineError(int lineNumber, String message) {
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + message;
+        }
+    }
+
+    /**
+     * Totals of an import; only the first errors are kept, the rest are counted
+     */
+    public static class ImportReport {
+        private int linesRead;
+        private int imported;
+        private int skipped;
+        private int failed;
+        private boolean cancelled;
+        private final List<LineError> errors = new ArrayList<>();
+
+        void addError(int lineNumber, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new LineError(lineNumber, message));
+            }
+        }
+
+        void merge(ImportReport other) {
+            imported += other.imported;
+            skipped += other.skipped;
+            for (LineError error : other.errors) {
+                addError(error.lineNumber, error.message);
+            }
+            failed += other.failed - other.errors.size();
+        }
+
+        public int getLinesRead() {
+            return linesRead;
+        }
+
+        public int getImported() {
+            return imported;
+        }
+
+        public int getSkipped() {
+            return skipped;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public List<LineError> getErrors() {
+            return Collections.unmodifiableList(errors);
+        }
+
+        /**
+         * Short message for a result dialog, listing up to {@code maxErrors} errors
+         */
+        public String getSummary(int maxErrors) {
+            StringBuilder summary = new StringBuilder();
+            summary.append(cancelled ? "Cancelled after " : "Read ").append(linesRead).append(" lines: ")
+                    .append(imported).append(" imported, ")
+                    .append(skipped).append(" already existed, ")
+                    .append(failed).append(" failed");
+            for (int i = 0; i < Math.min(maxErrors, errors.size()); i++) {
+                summary.append("\n  ").append(errors.get(i));
+            }
+            if (failed > maxErrors && maxErrors > 0) {
+                summary.append("\n  ...");
+            }
+            return summary.toString();
+        }
+    }
+
+    /**
+     * Snapshot of a running import
+     */
+    public static class ImportProgress {
+        private final int linesRead;
+        private final int imported;
+        private final int failed;
+        private final double fraction;
+
+        ImportProgress(ImportReport report, double fraction) {
+            this.linesRead = report.linesRead;
+            this.imported = report.imported;
+            this.failed = report.failed;
+            this.fraction = fraction;
+        }
+
+        public int getLinesRead() {
+            return linesRead;
+        }
+
+        public int getImported() {
+            return imported;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        /**
+         * Share of the file read so far, between 0 and 1
+         */
+        public double getFraction() {
+            return fraction;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.services;
+
+import org.example.DatabaseConnection;
+import org.example.models.DashboardCounts;
+import org.example.utils.DatabaseExecutor;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Dashboard totals with a short-lived cache.
+ * Only database objects the other tabs already use are queried: school, hospital and booking totals come from
+ * one SELECT of scalar subqueries over their views, and pending users, which no view exposes, are counted from
+ * {@code FetchUsersByApproval}. Both run on the same connection.
+ */
+public class DashboardService {
+
+    /** Counts younger than this are served from the cache without a query */
+    public static final long CACHE_TTL_MILLIS = 15_000;
+
+    private volatile DashboardCounts cachedCounts;
+    private volatile long cachedAtNanos;
+    private CompletableFuture<DashboardCounts> inFlight;
+
+    /**
+     * Fetch all dashboard counts on one connection
+     */
+    public DashboardCounts fetchCounts() throws SQLException {
+        String totalsSql = "SELECT"
+                + " (SELECT COUNT(*) FROM AdminSchoolView WHERE status = 'Pending') AS pending_schools,"
+                + " (SELECT COUNT(*) FROM Admin_view_hospitals) AS total_hospitals,"
+                + " (SELECT COUNT(*) FROM Admin_BookingOverviewView) AS total_bookings";
+        String pendingUsersSql = "{CALL FetchUsersByApproval(?)}";
+        try (java.sql.Connection conn = DatabaseConnection.Connect()) {
+            if (conn == null) {
+                throw new SQLException("Database connection is null");
+            }
+            int pendingUsers = 0;
+            try (java.sql.CallableStatement stmt = conn.prepareCall(pendingUsersSql)) {
+                stmt.setBoolean(1, false);
+                try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        pendingUsers++;
+                    }
+                }
+            }
+            try (java.sql.PreparedStatement stmt = conn.prepareStatement(totalsSql);
+                 java.sql.ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("Dashboard totals query returned no rows");
+                }
+                return new DashboardCounts(
+                        pendingUsers,
+                        rs.getInt("pending_schools"),
+                        rs.getInt("total_hospitals"),
+                        rs.getInt("total_bookings"),
+                        LocalDateTime.now());
+            }
+        }
+    }
+
+    /**
+     * The last counts fetched, or null before the first fetch completes; never blocks
+     */
+    public DashboardCounts getCachedCounts() {
+        return cachedCounts;
+    }
+
+    public boolean isCacheFresh() {
+        return cachedCounts != null && System.nanoTime() - cachedAtNanos < CACHE_TTL_MILLIS * 1_000_000L;
+    }
+
+    /**
+     * The cached counts if still fresh, otherwise a background fetch.
+     * Concurrent callers share the fetch that is already running.
+     */
+    public synchronized CompletableFuture<DashboardCounts> getCountsAsync() {
+        if (isCacheFresh()) {
+            return CompletableFuture.completedFuture(cachedCounts);
+        }
+        if (inFlight == null) {
+            CompletableFuture<DashboardCounts> fetch = DatabaseExecutor.supplyAsync(DatabaseExecutor.Priority.BACKGROUND, () -> {
+                try {
+                    DashboardCounts counts = fetchCounts();
+                    cachedCounts = counts;
+                    cachedAtNanos = System.nanoTime();
+                    return counts;
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            });
+            inFlight = fetch;
+            fetch.whenComplete((counts, error) -> clearInFlight(fetch));
+        }
+        return inFlight;
+    }
+
+    private synchronized void clearInFlight(CompletableFuture<DashboardCounts> fetch) {
+        if (inFlight == fetch) {
+            inFlight = null;
+        }
+    }
+}
@@ -4,41 +4,55 @@ import org.example.DatabaseConnection;
 import org.example.models.HospitalItem;
 import org.example.models.DepartmentItem;
 import org.example.models.SlotDateItem;
+import org.example.models.TimeSlotPlan;
+import org.example.models.TimeSlotRow;
+import org.example.utils.QueryHandle;
+import org.example.utils.SingleFlight;
 
 import javax.swing.JComboBox;
 import javax.swing.JOptionPane;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
 
 
 public class HospitalService {
 
+    // Ids per grouped booked-count query; full chunks share one cached statement
+    private static final int BOOKED_COUNT_CHUNK = 500;
+
     public Object[][] fetchHospitals() {
-        List<Object[]> hospitalList = new ArrayList<>();
         String sql = "SELECT * FROM Admin_view_hospitals";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[6];
-                        row[0] = rs.getObject("hospital_id");
-                        row[1] = rs.getObject("hospital_name");
-                        row[2] = rs.getObject("hospital_address");
-                        row[3] = rs.getObject("contact_info");
-                        row[4] = rs.getObject("descriptions");
-                        row[5] = "Actions";
-                        hospitalList.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<Object[]> hospitalList = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            Object[] row = new Object[6];
+                            row[0] = rs.getObject("hospital_id");
+                            row[1] = rs.getObject("hospital_name");
+                            row[2] = rs.getObject("hospital_address");
+                            row[3] = rs.getObject("contact_info");
+                            row[4] = rs.getObject("descriptions");
+                            row[5] = "Actions";
+                            hospitalList.add(row);
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                showErrorMessage("Failed to load hospitals: " + e.getMessage());
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load hospitals: " + e.getMessage());
-        }
-        return hospitalList.toArray(new Object[0][0]);
+            return hospitalList.toArray(new Object[0][0]);
+        });
     }
 
     public boolean addHospital(String name, String address, String contact, String description) {
@@ -51,6 +65,7 @@ public class HospitalService {
                 stmt.setString(3, contact.isEmpty() ? null : contact);
                 stmt.setString(4, description.isEmpty() ? null : description);
                 int inserted = stmt.executeUpdate();
+                SingleFlight.invalidate();
                 return inserted > 0;
             }
         } catch (Exception e) {
@@ -62,29 +77,30 @@ public class HospitalService {
 
 
     public Object[][] fetchDepartments() {
-        List<Object[]> deptList = new ArrayList<>();
         String sql = "SELECT * FROM view_departments";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[5];
-                        row[0] = rs.getObject("department_id");
-                        row[1] = rs.getObject("hospital_name");
-                        row[2] = rs.getObject("section_name");
-                        row[3] = rs.getObject("price_per_student");
-                        row[4] = "Actions";
-                        deptList.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<Object[]> deptList = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            Object[] row = new Object[5];
+                            row[0] = rs.getObject("department_id");
+                            row[1] = rs.getObject("hospital_name");
+                            row[2] = rs.getObject("section_name");
+                            row[3] = rs.getObject("price_per_student");
+                            row[4] = "Actions";
+                            deptList.add(row);
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                showErrorMessage("Failed to load departments: " + e.getMessage());
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load departments: " + e.getMessage());
-        }
-        return deptList.toArray(new Object[0][0]);
+            return deptList.toArray(new Object[0][0]);
+        });
     }
 
     /**
@@ -101,6 +117,7 @@ public class HospitalService {
                 stmt.setDouble(3, price);
 
                 int inserted = stmt.executeUpdate();
+                SingleFlight.invalidate();
                 return inserted > 0;
             }
 
@@ -115,29 +132,30 @@ public class HospitalService {
      * Fetch available dates
      */
     public Object[][] fetchAvailableDates() {
-        List<Object[]> dateList = new ArrayList<>();
         String sql = "SELECT * FROM admin_view_slot_dates";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[5];
-                        row[0] = rs.getObject("slot_date_id");
-                        row[1] = rs.getObject("hospital_name");
-                        row[2] = rs.getObject("section_name");
-                        row[3] = rs.getObject("slot_date");
-                        row[4] = "Actions";
-                        dateList.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<Object[]> dateList = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            Object[] row = new Object[5];
+                            row[0] = rs.getObject("slot_date_id");
+                            row[1] = rs.getObject("hospital_name");
+                            row[2] = rs.getObject("section_name");
+                            row[3] = rs.getObject("slot_date");
+                            row[4] = "Actions";
+                            dateList.add(row);
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                showErrorMessage("Failed to load available dates: " + e.getMessage());
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load available dates: " + e.getMessage());
-        }
-        return dateList.toArray(new Object[0][0]);
+            return dateList.toArray(new Object[0][0]);
+        });
     }
 
 
@@ -152,6 +170,7 @@ public class HospitalService {
                 stmt.setDate(2, sqlDate);
 
                 int inserted = stmt.executeUpdate();
+                SingleFlight.invalidate();
                 return inserted > 0;
             }
         } catch (SQLException e) {
@@ -162,32 +181,110 @@ public class HospitalService {
     }
 
 
-    public Object[][] fetchTimeSlots() {
-        List<Object[]> timeSlotList = new ArrayList<>();
+    public List<TimeSlotRow> fetchTimeSlots() {
         String sql = "SELECT * FROM admin_view_time_slots";
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[8];
-                        row[0] = rs.getObject("time_slot_id");
-                        row[1] = rs.getObject("hospital_name");
-                        row[2] = rs.getObject("section_name");
-                        row[3] = rs.getObject("slot_date");
-                        row[4] = rs.getObject("start_time");
-                        row[5] = rs.getObject("end_time");
-                        row[6] = rs.getObject("capacity");
-                        row[7] = "Actions";
-                        timeSlotList.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<TimeSlotRow> timeSlotList = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        // Resolve column positions once per result set instead of by name on every row
+                        int idCol = rs.findColumn("time_slot_id");
+                        int hospitalCol = rs.findColumn("hospital_name");
+                        int sectionCol = rs.findColumn("section_name");
+                        int dateCol = rs.findColumn("slot_date");
+                        int startCol = rs.findColumn("start_time");
+                        int endCol = rs.findColumn("end_time");
+                        int capacityCol = rs.findColumn("capacity");
+                        while (rs.next()) {
+                            timeSlotList.add(new TimeSlotRow(
+                                    rs.getInt(idCol),
+                                    rs.getString(hospitalCol),
+                                    rs.getString(sectionCol),
+                                    rs.getObject(dateCol, LocalDate.class),
+                                    rs.getObject(startCol, LocalTime.class),
+                                    rs.getObject(endCol, LocalTime.class),
+                                    rs.getInt(capacityCol)));
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                showErrorMessage("Failed to load time slots: " + e.getMessage());
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load time slots: " + e.getMessage());
+            return timeSlotList;
+        });
+    }
+
+
+    /**
+     * Fetch the time slots together with their booked counts
+     */
+    public List<TimeSlotRow> fetchTimeSlotsWithBookedCounts() {
+        List<TimeSlotRow> timeSlots = fetchTimeSlots();
+        if (timeSlots.isEmpty()) {
+            return timeSlots;
+        }
+        List<Integer> ids = new ArrayList<>(timeSlots.size());
+        timeSlots.forEach(slot -> ids.add(slot.getTimeSlotId()));
+        try {
+            Map<Integer, Integer> booked = fetchBookedCounts(ids);
+            List<TimeSlotRow> counted = new ArrayList<>(timeSlots.size());
+            for (TimeSlotRow slot : timeSlots) {
+                counted.add(slot.withBookedCount(booked.getOrDefault(slot.getTimeSlotId(), 0)));
+            }
+            return counted;
+        } catch (SQLException e) {
+            // The slots are still useful without counts; the columns stay empty
+            System.err.println("Failed to load booked counts: " + e.getMessage());
+            return timeSlots;
         }
-        return timeSlotList.toArray(new Object[0][0]);
+    }
+
+    /**
+     * Count the students booked into each of the given time slots with one grouped query per
+     * {@value #BOOKED_COUNT_CHUNK} ids, instead of one FetchStudentsByTimeslot call per slot.
+     * A booking can hold several students, so its student_count is summed, taken from
+     * Admin_BookingOverviewView exactly as the analytics capacity report does; rejected bookings do not
+     * take up capacity.
+     *
+     * No view maps bookings to time slots, so this joins the raw Appointments table and depends on its
+     * appointment_id (the view's booking_id) and time_slot_id columns.
+     *
+     * @return booked count by time slot id; slots without bookings are absent
+     */
+    public Map<Integer, Integer> fetchBookedCounts(Collection<Integer> timeSlotIds) throws SQLException {
+        Map<Integer, Integer> counts = new HashMap<>();
+        if (timeSlotIds.isEmpty()) {
+            return counts;
+        }
+        List<Integer> ids = new ArrayList<>(timeSlotIds);
+
+        try (java.sql.Connection conn = DatabaseConnection.Connect()) {
+            if (conn == null) {
+                throw new SQLException("Database connection is null");
+            }
+            for (int from = 0; from < ids.size(); from += BOOKED_COUNT_CHUNK) {
+                List<Integer> chunk = ids.subList(from, Math.min(ids.size(), from + BOOKED_COUNT_CHUNK));
+                String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                String sql = "SELECT a.time_slot_id, SUM(b.student_count) AS booked FROM Appointments a "
+                        + "JOIN Admin_BookingOverviewView b ON b.booking_id = a.appointment_id "
+                        + "WHERE a.time_slot_id IN (" + placeholders + ") AND b.appointment_status <> 'Rejected' "
+                        + "GROUP BY a.time_slot_id";
+                try (java.sql.PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setInt(i + 1, chunk.get(i));
+                    }
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            counts.put(rs.getInt(1), rs.getInt(2));
+                        }
+                    }
+                }
+            }
+        }
+        return counts;
     }
 
 
@@ -201,6 +298,7 @@ public class HospitalService {
                 stmt.setString(3, endTime);
                 stmt.setInt(4, capacity);
                 int inserted = stmt.executeUpdate();
+                SingleFlight.invalidate();
                 return inserted > 0;
             }
         } catch (SQLException e) {
@@ -210,116 +308,265 @@ public class HospitalService {
         return false;
     }
 
+    /**
+     * Create every slot of a plan in one transaction.
+     * Missing available dates are added with one AddAvailableDate batch, dates that already exist are reused,
+     * and all time slots go in with one AddTimeSlot batch. Any failure rolls back the whole plan.
+     *
+     * @return number of time slots created
+     */
+    public int generateTimeSlots(TimeSlotPlan plan) throws SQLException {
+        List<LocalDate> dates = plan.expandDates();
+        if (dates.isEmpty() || plan.getWindows().isEmpty()) {
+            return 0;
+        }
+
+        try (java.sql.Connection conn = DatabaseConnection.Connect()) {
+            if (conn == null) {
+                throw new SQLException("Database connection is null");
+            }
+
+            conn.setAutoCommit(false);
+            try {
+                String[] names = fetchDepartmentNames(conn, plan.getDepartmentId());
+                Map<LocalDate, Integer> slotDateIds = fetchSlotDateIds(conn, names, plan);
+
+                try (java.sql.CallableStatement stmt = conn.prepareCall("{CALL AddAvailableDate(?, ?)}")) {
+                    int added = 0;
+                    for (LocalDate date : dates) {
+                        if (!slotDateIds.containsKey(date)) {
+                            stmt.setInt(1, plan.getDepartmentId());
+                            stmt.setDate(2, java.sql.Date.valueOf(date));
+                            stmt.addBatch();
+                            added++;
+                        }
+                    }
+                    if (added > 0) {
+                        stmt.executeBatch();
+                        // The new rows are visible to this transaction, so the ids resolve before commit
+                        slotDateIds = fetchSlotDateIds(conn, names, plan);
+                    }
+                }
+
+                int slots = 0;
+                try (java.sql.CallableStatement stmt = conn.prepareCall("{CALL AddTimeSlot(?, ?, ?, ?)}")) {
+                    for (LocalDate date : dates) {
+                        Integer slotDateId = slotDateIds.get(date);
+                        if (slotDateId == null) {
+                            throw new SQLException("Available date " + date + " was not created");
+                        }
+                        for (TimeSlotPlan.TimeWindow window : plan.getWindows()) {
+                            stmt.setInt(1, slotDateId);
+                            stmt.setString(2, window.getStart().toString());
+                            stmt.setString(3, window.getEnd().toString());
+                            stmt.setInt(4, plan.getCapacity());
+                            stmt.addBatch();
+                            slots++;
+                        }
+                    }
+                    stmt.executeBatch();
+                }
+
+                conn.commit();
+                SingleFlight.invalidate();
+                System.out.println("[SUCCESS] Generated " + slots + " time slots on " + dates.size()
+                        + " dates for department " + plan.getDepartmentId());
+                return slots;
+            } catch (SQLException e) {
+                conn.rollback();
+                System.err.println("[ERROR] Time slot generation rolled back: " + e.getMessage());
+                throw e;
+            }
+        }
+    }
+
+    private String[] fetchDepartmentNames(java.sql.Connection conn, int departmentId) throws SQLException {
+        String sql = "SELECT hospital_name, section_name FROM view_departments WHERE department_id = ?";
+        try (java.sql.PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, departmentId);
+            try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("Department " + departmentId + " not found");
+                }
+                return new String[] { rs.getString(1), rs.getString(2) };
+            }
+        }
+    }
+
+    /**
+     * Slot date ids of the department within the plan's date range, by date
+     */
+    private Map<LocalDate, Integer> fetchSlotDateIds(java.sql.Connection conn, String[] departmentNames,
+                                                     TimeSlotPlan plan) throws SQLException {
+        String sql = "SELECT slot_date_id, slot_date FROM admin_view_slot_dates "
+                + "WHERE hospital_name = ? AND section_name = ? AND slot_date BETWEEN ? AND ?";
+        Map<LocalDate, Integer> ids = new HashMap<>();
+        try (java.sql.PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, departmentNames[0]);
+            stmt.setString(2, departmentNames[1]);
+            stmt.setDate(3, java.sql.Date.valueOf(plan.getStartDate()));
+            stmt.setDate(4, java.sql.Date.valueOf(plan.getEndDate()));
+            try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.putIfAbsent(rs.getObject(2, LocalDate.class), rs.getInt(1));
+                }
+            }
+        }
+        return ids;
+    }
+
     public void loadHospitalsCombo(JComboBox<HospitalItem> combo) {
         combo.removeAllItems();
+        fetchHospitalItems().forEach(combo::addItem);
+    }
+
+    /**
+     * Fetch hospital combo items without touching any Swing component, so it can run off the EDT
+     */
+    public List<HospitalItem> fetchHospitalItems() {
         String sql = "SELECT * FROM admin_hospital_combo_view";
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        combo.addItem(new HospitalItem(rs.getInt("hospital_id"), rs.getString("hospital_name")));
+        return SingleFlight.call(sql, () -> {
+            List<HospitalItem> items = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            items.add(new HospitalItem(rs.getInt("hospital_id"), rs.getString("hospital_name")));
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+            return items;
+        });
     }
 
 
     public void loadDepartmentsCombo(JComboBox<DepartmentItem> combo) {
         combo.removeAllItems();
+        fetchDepartmentItems().forEach(combo::addItem);
+    }
+
+    /**
+     * Fetch department combo items without touching any Swing component, so it can run off the EDT
+     */
+    public List<DepartmentItem> fetchDepartmentItems() {
         String sql = "SELECT * FROM admin_view_departments_combo";
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        combo.addItem(new DepartmentItem(rs.getInt("department_id"), rs.getString("display_name")));
+        return SingleFlight.call(sql, () -> {
+            List<DepartmentItem> items = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            items.add(new DepartmentItem(rs.getInt("department_id"), rs.getString("display_name")));
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+            return items;
+        });
     }
 
     public void loadSlotDatesCombo(JComboBox<SlotDateItem> combo) {
         combo.removeAllItems();
+        fetchSlotDateItems().forEach(combo::addItem);
+    }
+
+    /**
+     * Fetch slot date combo items without touching any Swing component, so it can run off the EDT
+     */
+    public List<SlotDateItem> fetchSlotDateItems() {
         String sql = "SELECT * From admin_view_slot_dates_combo";
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        combo.addItem(new SlotDateItem(rs.getInt("slot_date_id"), rs.getString("display_name")));
+        return SingleFlight.call(sql, () -> {
+            List<SlotDateItem> items = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            items.add(new SlotDateItem(rs.getInt("slot_date_id"), rs.getString("display_name")));
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+            return items;
+        });
     }
 
 
     public Object[][] fetchSchoolsByDepartment(int departmentId) {
-        List<Object[]> schoolList = new ArrayList<>();
         String sql = "{CALL admin_Get_Schools_By_Department(?)}";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                stmt.setInt(1, departmentId);
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[4];
-                        row[0] = rs.getObject("school_id");
-                        row[1] = rs.getObject("school_name");
-                        row[2] = rs.getObject("total_appointments");
-                        row[3] = rs.getObject("total_students");
-                        schoolList.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<Object[]> schoolList = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    stmt.setInt(1, departmentId);
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            Object[] row = new Object[4];
+                            row[0] = rs.getObject("school_id");
+                            row[1] = rs.getObject("school_name");
+                            row[2] = rs.getObject("total_appointments");
+                            row[3] = rs.getObject("total_students");
+                            schoolList.add(row);
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                showErrorMessage("Failed to load schools for department: " + e.getMessage());
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load schools for department: " + e.getMessage());
-        }
-        return schoolList.toArray(new Object[0][0]);
+            return schoolList.toArray(new Object[0][0]);
+        }, departmentId);
     }
 
 
     public Object[][] fetchStudentsBySchoolAndDepartment(int schoolId, int departmentId) {
-        List<Object[]> studentList = new ArrayList<>();
         String sql = "{CALL Admin_Fetch_Students_By_School_And_Department(?, ?)}";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                stmt.setInt(1, schoolId);
-                stmt.setInt(2, departmentId);
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[9];
-                        row[0] = rs.getObject("student_id");
-                        row[1] = rs.getObject("student_name");
-                        row[2] = rs.getObject("email");
-                        row[3] = rs.getObject("appointment_id");
-                        row[4] = rs.getObject("slot_date");
-                        row[5] = rs.getObject("start_time");
-                        row[6] = rs.getObject("end_time");
-                        row[7] = rs.getObject("appointment_status");
-                        row[8] = rs.getObject("booking_date");
-                        studentList.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<Object[]> studentList = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    QueryHandle.Registration registration = QueryHandle.track(stmt);
+                    try {
+                        stmt.setInt(1, schoolId);
+                        stmt.setInt(2, departmentId);
+                        try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                            while (rs != null && rs.next()) {
+                                Object[] row = new Object[9];
+                                row[0] = rs.getObject("student_id");
+                                row[1] = rs.getObject("student_name");
+                                row[2] = rs.getObject("email");
+                                row[3] = rs.getObject("appointment_id");
+                                row[4] = rs.getObject("slot_date");
+                                row[5] = rs.getObject("start_time");
+                                row[6] = rs.getObject("end_time");
+                                row[7] = rs.getObject("appointment_status");
+                                row[8] = rs.getObject("booking_date");
+                                studentList.add(row);
+                            }
+                        }
+                    } finally {
+                        registration.close();
                     }
                 }
+            } catch (Exception e) {
+                if (!QueryHandle.isCurrentCancelled()) {
+                    e.printStackTrace();
+                    showErrorMessage("Failed to load students for school and department: " + e.getMessage());
+                }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load students for school and department: " + e.getMessage());
-        }
-        return studentList.toArray(new Object[0][0]);
+            return studentList.toArray(new Object[0][0]);
+        }, schoolId, departmentId);
     }
 
     public String getDepartmentName(int departmentId) {
@@ -343,50 +590,78 @@ public class HospitalService {
 
 
     private void showErrorMessage(String message) {
-        JOptionPane.showMessageDialog(null, message, "Error", JOptionPane.ERROR_MESSAGE);
+        // Queries now run off the EDT, so dialogs are scheduled onto it
+        if (javax.swing.SwingUtilities.isEventDispatchThread()) {
+            JOptionPane.showMessageDialog(null, message, "Error", JOptionPane.ERROR_MESSAGE);
+        } else {
+            javax.swing.SwingUtilities.invokeLater(() ->
+                JOptionPane.showMessageDialog(null, message, "Error", JOptionPane.ERROR_MESSAGE)
+            );
+        }
     }
 
 
 
     public Object[][] fetchStudentsByTimeslot(int timeSlotId) {
-        List<Object[]> studentList = new ArrayList<>();
         String sql = "{CALL FetchStudentsByTimeslot(?)}";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                stmt.setInt(1, timeSlotId);
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[7];
-                        row[0] = rs.getObject("student_id");
-                        row[1] = rs.getObject("firstname");
-                        row[2] = rs.getObject("lastname");
-                        row[3] = rs.getObject("email");
-                        row[4] = rs.getObject("school_name");
-                        row[5] = rs.getObject("request_date");   // from Appointments
-                        row[6] = rs.getObject("appointment_status"); // from Appointments
-                        studentList.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<Object[]> studentList = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    QueryHandle.Registration registration = QueryHandle.track(stmt);
+                    try {
+                        stmt.setInt(1, timeSlotId);
+                        try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                            while (rs != null && rs.next()) {
+                                Object[] row = new Object[7];
+                                row[0] = rs.getObject("student_id");
+                                row[1] = rs.getObject("firstname");
+                                row[2] = rs.getObject("lastname");
+                                row[3] = rs.getObject("email");
+                                row[4] = rs.getObject("school_name");
+                                row[5] = rs.getObject("request_date");   // from Appointments
+                                row[6] = rs.getObject("appointment_status"); // from Appointments
+                                studentList.add(row);
+                            }
+                        }
+                    } finally {
+                        registration.close();
                     }
                 }
+            } catch (Exception e) {
+                // A cancelled fetch fails by design; its result is discarded anyway
+                if (!QueryHandle.isCurrentCancelled()) {
+                    e.printStackTrace();
+                    showErrorMessage("Failed to load students for timeslot: " + e.getMessage());
+                }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load students for timeslot: " + e.getMessage());
-        }
-        return studentList.toArray(new Object[0][0]);
+            return studentList.toArray(new Object[0][0]);
+        }, timeSlotId);
     }
 
     /**
      * Threaded version to fetch students by timeslot using DatabaseConnection.performDatabaseOperation
      */
-    public void fetchStudentsByTimeslotAsync(int timeSlotId,
+    public QueryHandle fetchStudentsByTimeslotAsync(int timeSlotId,
+                                           java.util.function.Consumer<Object[][]> onSuccess,
+                                           java.util.function.Consumer<Exception> onError,
+                                           Runnable onStart,
+                                           Runnable onFinish) {
+        return fetchStudentsByTimeslotAsync(QueryHandle.withDefaultTimeout(), timeSlotId, onSuccess, onError, onStart, onFinish);
+    }
+
+    /**
+     * Fetch students by timeslot under {@code handle}, which sets the query timeout and can cancel the fetch
+     */
+    public QueryHandle fetchStudentsByTimeslotAsync(QueryHandle handle, int timeSlotId,
                                            java.util.function.Consumer<Object[][]> onSuccess,
                                            java.util.function.Consumer<Exception> onError,
                                            Runnable onStart,
                                            Runnable onFinish) {
 
-        DatabaseConnection.performDatabaseOperation(
+        return DatabaseConnection.performDatabaseOperation(
+            handle,
             () -> fetchStudentsByTimeslot(timeSlotId),
             onSuccess,
             onError,
@@ -1,44 +1,132 @@
 package org.example.services;
 
 import org.example.DatabaseConnection;
+import org.example.models.BatchResult;
+import org.example.models.SchoolQuery;
+import org.example.models.SchoolRow;
+import org.example.utils.QueryHandle;
+import org.example.utils.SingleFlight;
 import javax.swing.JOptionPane;
+import java.util.Collection;
 import java.util.List;
 import java.util.ArrayList;
 
 public class SchoolService {
 
-    public Object[][] fetchSchoolsForManagement() {
-        List<Object[]> schoolList = new ArrayList<>();
-        String sql = "SELECT * from AdminSchoolView";
+    public List<SchoolRow> fetchSchoolsForManagement() {
+        return fetchSchools(SchoolQuery.all());
+    }
 
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[6];
-                        row[0] = rs.getObject("school_id");
-                        row[1] = rs.getObject("school_name");
-                        row[2] = rs.getObject("full_name");
-                        row[3] = rs.getObject("status");
-                        row[4] = rs.getObject("student_count");
-                        row[5] = "Actions";
-                        schoolList.add(row);
+    /**
+     * Fetch schools matching a query. Status, name prefix, sort order and paging all go into the SQL,
+     * so only the requested page crosses the wire.
+     */
+    public List<SchoolRow> fetchSchools(SchoolQuery query) {
+        List<Object> params = new ArrayList<>();
+        String key = buildSchoolsSql(query, params);
+        return SingleFlight.call(key, () -> {
+            List<SchoolRow> schoolList = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(key) : null) {
+                if (stmt != null) {
+                    QueryHandle.Registration registration = QueryHandle.track(stmt);
+                    try {
+                        for (int i = 0; i < params.size(); i++) {
+                            stmt.setObject(i + 1, params.get(i));
+                        }
+                        try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                            // Resolve column positions once per result set instead of by name on every row
+                            int idCol = rs.findColumn("school_id");
+                            int nameCol = rs.findColumn("school_name");
+                            int registeredByCol = rs.findColumn("full_name");
+                            int statusCol = rs.findColumn("status");
+                            int countCol = rs.findColumn("student_count");
+                            while (rs.next()) {
+                                schoolList.add(new SchoolRow(
+                                        rs.getInt(idCol),
+                                        rs.getString(nameCol),
+                                        rs.getString(registeredByCol),
+                                        rs.getString(statusCol),
+                                        rs.getInt(countCol)));
+                            }
+                        }
+                    } finally {
+                        registration.close();
                     }
                 }
+            } catch (Exception e) {
+                if (!QueryHandle.isCurrentCancelled()) {
+                    e.printStackTrace();
+                }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
+            return schoolList;
+        }, params.toArray());
+    }
+
+    /**
+     * SQL for one page of schools matching {@code query}; the values for its placeholders are added to
+     * {@code params} in order
+     */
+    static String buildSchoolsSql(SchoolQuery query, List<Object> params) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT school_id, school_name, full_name, status, student_count FROM AdminSchoolView WHERE 1 = 1");
 
+        if (query.getStatus() != null && !query.getStatus().isEmpty()) {
+            sql.append(" AND status = ?");
+            params.add(query.getStatus());
+        }
+        if (query.getNamePrefix() != null && !query.getNamePrefix().isEmpty()) {
+            sql.append(" AND school_name LIKE ? ESCAPE '!'");
+            params.add(escapeLike(query.getNamePrefix()) + "%");
         }
-        return schoolList.toArray(new Object[0][0]);
+        // The sort column comes from a fixed enum, never from user text; school_id keeps the order stable
+        sql.append(" ORDER BY ").append(query.getSortColumn().getColumnName())
+           .append(query.isAscending() ? " ASC" : " DESC");
+        if (query.getSortColumn() != SchoolQuery.SortColumn.SCHOOL_ID) {
+            sql.append(", school_id");
+        }
+        sql.append(" LIMIT ? OFFSET ?");
+        params.add(query.getLimit());
+        params.add(query.getOffset());
+        return sql.toString();
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * Fetch schools matching a query on the background database lane
+     */
+    public QueryHandle fetchSchoolsAsync(
+            SchoolQuery query,
+            java.util.function.Consumer<List<SchoolRow>> onSuccess,
+            java.util.function.Consumer<Exception> onError) {
+        return fetchSchoolsAsync(QueryHandle.withDefaultTimeout(), query, onSuccess, onError);
+    }
+
+    /**
+     * Fetch schools matching a query under {@code handle}, which sets the query timeout and can cancel the fetch
+     */
+    public QueryHandle fetchSchoolsAsync(
+            QueryHandle handle,
+            SchoolQuery query,
+            java.util.function.Consumer<List<SchoolRow>> onSuccess,
+            java.util.function.Consumer<Exception> onError) {
+
+        return org.example.utils.ThreadUtils.executeInBackground(
+            handle,
+            () -> fetchSchools(query),
+            onSuccess,
+            onError
+        );
     }
 
-    public void fetchSchoolsForManagementAsync(
-            java.util.function.Consumer<Object[][]> onSuccess,
+    public QueryHandle fetchSchoolsForManagementAsync(
+            java.util.function.Consumer<List<SchoolRow>> onSuccess,
             java.util.function.Consumer<Exception> onError) {
 
-        org.example.utils.ThreadUtils.executeInBackground(
+        return org.example.utils.ThreadUtils.executeInBackground(
             this::fetchSchoolsForManagement,
             onSuccess,
             onError
@@ -58,6 +146,7 @@ public class SchoolService {
             if (stmt != null) {
                 stmt.setObject(1, schoolId);
                 int rowsAffected = stmt.executeUpdate();
+                SingleFlight.invalidate();
                 if (rowsAffected > 0) {
                     System.out.println("School approved successfully: " + schoolId);
                     return true;
@@ -82,6 +171,7 @@ public class SchoolService {
             if (stmt != null) {
                 stmt.setObject(1, schoolId);
                 int rowsAffected = stmt.executeUpdate();
+                SingleFlight.invalidate();
                 if (rowsAffected > 0) {
                     System.out.println("School rejected successfully: " + schoolId);
                     return true;
@@ -98,97 +188,114 @@ public class SchoolService {
         return false;
     }
 
+    /**
+     * Approve many schools in one transaction with a single JDBC batch
+     */
+    public BatchResult<Integer> approveSchools(Collection<Integer> schoolIds) {
+        return BatchCalls.callForEachId("{CALL ApproveSchool(?)}", schoolIds, "school");
+    }
+
+    /**
+     * Reject many schools in one transaction with a single JDBC batch
+     */
+    public BatchResult<Integer> rejectSchools(Collection<Integer> schoolIds) {
+        return BatchCalls.callForEachId("{CALL RejectSchool(?)}", schoolIds, "school");
+    }
+
     /**
      * Fetch appointments for a specific school
      */
     public Object[][] fetchAppointmentsForSchool(Object schoolId) {
-        List<Object[]> list = new ArrayList<>();
         String sql = "SELECT * FROM Appointments(?)";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                stmt.setObject(1, schoolId);
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[6];
-                        row[0] = rs.getObject("appointment_id");
-                        row[1] = rs.getObject("hospital_name");
-                        row[2] = rs.getObject("section_name");
-                        row[3] = rs.getObject("date");
-                        row[4] = rs.getObject("time");
-                        row[5] = rs.getObject("status");
-                        list.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<Object[]> list = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    stmt.setObject(1, schoolId);
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            Object[] row = new Object[6];
+                            row[0] = rs.getObject("appointment_id");
+                            row[1] = rs.getObject("hospital_name");
+                            row[2] = rs.getObject("section_name");
+                            row[3] = rs.getObject("date");
+                            row[4] = rs.getObject("time");
+                            row[5] = rs.getObject("status");
+                            list.add(row);
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                showErrorMessage("Failed to load appointments: " + e.getMessage());
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load appointments: " + e.getMessage());
-        }
-        return list.toArray(new Object[0][0]);
+            return list.toArray(new Object[0][0]);
+        }, schoolId);
     }
 
     /**
      * Fetch students for a specific school
      */
     public Object[][] fetchStudentsForSchool(Object schoolId) {
-        List<Object[]> list = new ArrayList<>();
         String sql = "CALL AdminGetStudentsBySchool(?)";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                stmt.setObject(1, schoolId);
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[4];
-                        row[0] = rs.getObject("student_id");
-                        row[1] = rs.getObject("full_name");
-                        row[2] = rs.getObject("email");
-                        row[3] = rs.getObject("added_at");
-                        list.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<Object[]> list = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    stmt.setObject(1, schoolId);
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            Object[] row = new Object[4];
+                            row[0] = rs.getObject("student_id");
+                            row[1] = rs.getObject("full_name");
+                            row[2] = rs.getObject("email");
+                            row[3] = rs.getObject("added_at");
+                            list.add(row);
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                showErrorMessage("Failed to load students: " + e.getMessage());
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load students: " + e.getMessage());
-        }
-        return list.toArray(new Object[0][0]);
+            return list.toArray(new Object[0][0]);
+        }, schoolId);
     }
 
     /**
      * Fetch schools submitted by a specific user
      */
     public Object[][] fetchSchoolsForUser(Object userId) {
-        List<Object[]> schoolList = new ArrayList<>();
         String sql = "{CALL FetchSchoolsForUser(?)}";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                stmt.setObject(1, userId);
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[8];
-                        row[0] = rs.getObject("school_id");
-                        row[1] = rs.getObject("school_code");
-                        row[2] = rs.getObject("school_name");
-                        row[3] = rs.getObject("school_address");
-                        row[4] = rs.getObject("contact_info");
-                        row[5] = rs.getObject("status");
-                        row[6] = rs.getObject("created_at");
-                        row[7] = rs.getObject("approved_at");
-                        schoolList.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<Object[]> schoolList = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    stmt.setObject(1, userId);
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        while (rs != null && rs.next()) {
+                            Object[] row = new Object[8];
+                            row[0] = rs.getObject("school_id");
+                            row[1] = rs.getObject("school_code");
+                            row[2] = rs.getObject("school_name");
+                            row[3] = rs.getObject("school_address");
+                            row[4] = rs.getObject("contact_info");
+                            row[5] = rs.getObject("status");
+                            row[6] = rs.getObject("created_at");
+                            row[7] = rs.getObject("approved_at");
+                            schoolList.add(row);
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                showErrorMessage("Failed to load schools for user: " + e.getMessage());
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load schools for user: " + e.getMessage());
-        }
-        return schoolList.toArray(new Object[0][0]);
+            return schoolList.toArray(new Object[0][0]);
+        }, userId);
     }
 
     private void showErrorMessage(String message) {
@@ -1,7 +1,14 @@
 package org.example.services;
 
 import org.example.DatabaseConnection;
+import org.example.models.BatchResult;
+import org.example.models.UserRow;
+import org.example.utils.SingleFlight;
+
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -9,30 +16,35 @@ import java.util.ArrayList;
 public class UserService {
 
 
-    public Object[][] fetchUsersFromView(boolean approved) {
-        List<Object[]> userList = new ArrayList<>();
+    public List<UserRow> fetchUsersFromView(boolean approved) {
         String sql = "{CALL FetchUsersByApproval(?)}";
-
-        try (java.sql.Connection conn = DatabaseConnection.Connect();
-             java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
-            if (stmt != null) {
-                stmt.setBoolean(1, approved);
-                try (java.sql.ResultSet rs = stmt.executeQuery()) {
-                    while (rs != null && rs.next()) {
-                        Object[] row = new Object[4];
-                        row[0] = rs.getObject("user_id");
-                        row[1] = rs.getObject("fullname");
-                        row[2] = rs.getObject("email");
-                        row[3] = rs.getObject("added_at");
-                        userList.add(row);
+        return SingleFlight.call(sql, () -> {
+            List<UserRow> userList = new ArrayList<>();
+            try (java.sql.Connection conn = DatabaseConnection.Connect();
+                 java.sql.PreparedStatement stmt = conn != null ? conn.prepareStatement(sql) : null) {
+                if (stmt != null) {
+                    stmt.setBoolean(1, approved);
+                    try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                        // Resolve column positions once per result set instead of by name on every row
+                        int idCol = rs.findColumn("user_id");
+                        int nameCol = rs.findColumn("fullname");
+                        int emailCol = rs.findColumn("email");
+                        int addedCol = rs.findColumn("added_at");
+                        while (rs.next()) {
+                            userList.add(new UserRow(
+                                    rs.getInt(idCol),
+                                    rs.getString(nameCol),
+                                    rs.getString(emailCol),
+                                    rs.getObject(addedCol, LocalDateTime.class)));
+                        }
                     }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                showErrorMessage("Failed to load users: " + e.getMessage());
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorMessage("Failed to load users: " + e.getMessage());
-        }
-        return userList.toArray(new Object[0][0]);
+            return userList;
+        }, approved);
     }
 
 
@@ -56,6 +68,7 @@ public class UserService {
                 System.out.println("[DEBUG] Attempting to approve user with ID: " + userId);
 
                 int updated = stmt.executeUpdate();
+                SingleFlight.invalidate();
 
                 System.out.println("[DEBUG] Rows updated: " + updated);
 
@@ -77,7 +90,17 @@ public class UserService {
 
 
 
+    /**
+     * Approve many users in one transaction with a single JDBC batch.
+     * Users whose call updates no rows are reported as failed; any statement error rolls back the whole batch.
+     */
+    public BatchResult<Integer> approveUsers(Collection<Integer> userIds) {
+        return BatchCalls.callForEachId("{CALL ApproveUser(?)}", userIds, "user");
+    }
+
     private void showErrorMessage(String message) {
-        JOptionPane.showMessageDialog(null, message, "Error", JOptionPane.ERROR_MESSAGE);
+        // Queries run off the EDT, so dialogs are scheduled onto it
+        SwingUtilities.invokeLater(() ->
+            JOptionPane.showMessageDialog(null, message, "Error", JOptionPane.ERROR_MESSAGE));
     }
 }
@@ -1,14 +1,18 @@
 package org.example.ui.components;
 
+import org.example.models.SchoolRow;
 import org.example.services.SchoolService;
 import org.example.ui.dialogs.SchoolDialogs;
+import org.example.ui.models.RowTableModel;
+import org.example.utils.DatabaseExecutor;
+import org.example.utils.DatabaseWorker;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableCellEditor;
 import java.awt.*;
 import java.util.EventObject;
+import java.util.function.Supplier;
 
 /**
  * Custom table components for School Management
@@ -57,16 +61,15 @@ public class SchoolTableComponents {
         private final JPanel panel;
         private final JButton approveBtn, rejectBtn, viewAppointmentsBtn, viewStudentsBtn;
         private final JFrame parent;
-        private final DefaultTableModel model;
+        private final RowTableModel<SchoolRow> model;
+        // Model index of the row being edited
         private int row;
         private final SchoolService schoolService;
         private final SchoolDialogs schoolDialogs;
-        private final Runnable refreshCallback;
 
-        public SchoolActionEditor(JFrame parent, DefaultTableModel model, Runnable refreshCallback) {
+        public SchoolActionEditor(JFrame parent, RowTableModel<SchoolRow> model) {
             this.parent = parent;
             this.model = model;
-            this.refreshCallback = refreshCallback;
             this.schoolService = new SchoolService();
             this.schoolDialogs = new SchoolDialogs(parent, schoolService);
 
@@ -89,16 +92,11 @@ public class SchoolTableComponents {
 
         public Component getTableCellEditorComponent(JTable table, Object value,
                 boolean isSelected, int row, int column) {
-            this.row = row;
+            this.row = table.convertRowIndexToModel(row);
             panel.removeAll();
-            String status = table.getValueAt(row, 3).toString();
-            int studentCount = 0;
-            try {
-                Object countObj = table.getValueAt(row, 4);
-                if (countObj != null) studentCount = Integer.parseInt(countObj.toString());
-            } catch (Exception ex) {
-                // studentCount remains 0 if parsing fails
-            }
+            SchoolRow school = model.getRow(this.row);
+            String status = String.valueOf(school.getStatus());
+            int studentCount = school.getStudentCount();
 
             if ("Pending".equalsIgnoreCase(status)) {
                 panel.add(approveBtn);
@@ -118,45 +116,57 @@ public class SchoolTableComponents {
         }
 
         private void handleApprove() {
-            Object schoolId = model.getValueAt(row, 0);
+            int schoolId = model.getRow(row).getSchoolId();
             int confirm = JOptionPane.showConfirmDialog(parent, "Approve this school?", "Confirm", JOptionPane.YES_NO_OPTION);
+            fireEditingStopped();
             if (confirm == JOptionPane.YES_OPTION) {
-                boolean success = schoolService.approveSchool(schoolId);
-                if (success) {
-                    JOptionPane.showMessageDialog(parent, "School approved!", "Success", JOptionPane.INFORMATION_MESSAGE);
-                    model.setValueAt("Approved", row, 3);
-                    if (refreshCallback != null) refreshCallback.run();
-                } else {
-                    JOptionPane.showMessageDialog(parent, "Failed to approve school.", "Error", JOptionPane.ERROR_MESSAGE);
-                }
+                runStatusChange(() -> schoolService.approveSchool(schoolId), schoolId, "Approved",
+                    "School approved!", "Failed to approve school.");
             }
-            fireEditingStopped();
         }
 
         private void handleReject() {
-            Object schoolId = model.getValueAt(row, 0);
+            int schoolId = model.getRow(row).getSchoolId();
             int confirm = JOptionPane.showConfirmDialog(parent, "Reject this school?", "Confirm", JOptionPane.YES_NO_OPTION);
+            fireEditingStopped();
             if (confirm == JOptionPane.YES_OPTION) {
-                boolean success = schoolService.rejectSchool(schoolId);
-                if (success) {
-                    JOptionPane.showMessageDialog(parent, "School rejected!", "Success", JOptionPane.INFORMATION_MESSAGE);
-                    model.setValueAt("Rejected", row, 3);
-                    if (refreshCallback != null) refreshCallback.run();
-                } else {
-                    JOptionPane.showMessageDialog(parent, "Failed to reject school.", "Error", JOptionPane.ERROR_MESSAGE);
-                }
+                runStatusChange(() -> schoolService.rejectSchool(schoolId), schoolId, "Rejected",
+                    "School rejected!", "Failed to reject school.");
             }
-            fireEditingStopped();
+        }
+
+        /**
+         * Run an approve/reject call in the interactive lane and patch the row's status when it succeeds,
+         * instead of re-querying the whole list
+         */
+        private void runStatusChange(Supplier<Boolean> change, int schoolId, String newStatus,
+                                     String successMessage, String failureMessage) {
+            DatabaseWorker.execute(
+                DatabaseExecutor.Priority.INTERACTIVE,
+                change,
+                success -> {
+                    if (success) {
+                        JOptionPane.showMessageDialog(parent, successMessage, "Success", JOptionPane.INFORMATION_MESSAGE);
+                        model.updateRows(school -> school.getSchoolId() == schoolId, school -> school.withStatus(newStatus));
+                    } else {
+                        JOptionPane.showMessageDialog(parent, failureMessage, "Error", JOptionPane.ERROR_MESSAGE);
+                    }
+                },
+                error -> JOptionPane.showMessageDialog(parent, failureMessage + " " + error.getMessage(),
+                    "Error", JOptionPane.ERROR_MESSAGE),
+                () -> parent.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR)),
+                () -> parent.setCursor(Cursor.getDefaultCursor())
+            );
         }
 
         private void handleViewAppointments() {
-            Object schoolId = model.getValueAt(row, 0);
+            int schoolId = model.getRow(row).getSchoolId();
             schoolDialogs.showSchoolAppointmentsDialog(schoolId);
             fireEditingStopped();
         }
 
         private void handleViewStudents() {
-            Object schoolId = model.getValueAt(row, 0);
+            int schoolId = model.getRow(row).getSchoolId();
             schoolDialogs.showSchoolStudentsDialog(schoolId);
             fireEditingStopped();
         }
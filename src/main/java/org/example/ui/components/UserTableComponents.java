@@ -1,11 +1,13 @@
 package org.example.ui.components;
 
+import org.example.models.UserRow;
 import org.example.services.UserService;
+import org.example.ui.models.RowTableModel;
+import org.example.utils.DatabaseExecutor;
 
 import javax.swing.*;
 import javax.swing.event.CellEditorListener;
 import javax.swing.event.ChangeEvent;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableCellEditor;
 import java.awt.*;
@@ -45,12 +47,12 @@ public class UserTableComponents {
         private String label;
         private boolean isPushed;
         private final JFrame parent;
-        private final DefaultTableModel model;
+        private final RowTableModel<UserRow> model;
         private int row;
         private final UserService userService;
         private final ArrayList<CellEditorListener> listeners;
 
-        public ButtonEditor(JFrame parent, DefaultTableModel model) {
+        public ButtonEditor(JFrame parent, RowTableModel<UserRow> model) {
             this.parent = parent;
             this.model = model;
             this.userService = new UserService();
@@ -72,8 +74,9 @@ public class UserTableComponents {
 
         private void handleApprovalClick() {
             if (isPushed) {
-                Object userId = model.getValueAt(row, 0);
-                Object userName = model.getValueAt(row, 1);
+                UserRow user = model.getRow(row);
+                int userId = user.getUserId();
+                String userName = user.getFullName();
 
                 int confirm = JOptionPane.showConfirmDialog(parent,
                         "Are you sure you want to approve user: " + userName + "?",
@@ -86,10 +89,8 @@ public class UserTableComponents {
                     button.setEnabled(false);
                     button.setText("Processing...");
 
-                    final int currentRow = row; // capture row for safe removal
-
-                    // Use threading to prevent UI freezing
-                    Thread thread = new Thread(() -> {
+                    // Run on the shared database executor to prevent UI freezing
+                    DatabaseExecutor.execute(DatabaseExecutor.Priority.INTERACTIVE, () -> {
                         try {
                             boolean success = userService.approveUser(userId);
 
@@ -104,10 +105,8 @@ public class UserTableComponents {
                                             "User Approved",
                                             JOptionPane.INFORMATION_MESSAGE);
 
-                                    // Safely remove the row
-                                    if (currentRow < model.getRowCount()) {
-                                        model.removeRow(currentRow);
-                                    }
+                                    // Remove by key; row indexes may have shifted while the call ran
+                                    model.removeRows(u -> u.getUserId() == userId);
                                 } else {
                                     JOptionPane.showMessageDialog(parent,
                                             "Failed to approve user '" + userName + "'. Please try again.",
@@ -132,9 +131,6 @@ public class UserTableComponents {
                             });
                         }
                     });
-
-                    thread.setDaemon(true);
-                    thread.start();
                 } else {
                     fireEditingStopped();
                 }
@@ -192,7 +188,7 @@ public class UserTableComponents {
 
         public Component getTableCellEditorComponent(JTable table, Object value,
                 boolean isSelected, int row, int column) {
-            this.row = row;
+            this.row = table.convertRowIndexToModel(row);
             label = (value == null) ? "" : value.toString();
             button.setText(label);
             button.setEnabled(true);
@@ -0,0 +1,211 @@
+package org.example.ui.dialogs;
+
+import org.example.services.CsvImportService;
+import org.example.utils.DatabaseExecutor;
+import org.example.utils.UIStyler;
+
+import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import java.awt.*;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Dialog to import hospitals, departments and time slots from a CSV file
+ */
+public class CsvImportDialog extends JDialog {
+    private static final int MAX_ERRORS_SHOWN = 200;
+
+    private final CsvImportService importService;
+    private final Runnable onImported;
+
+    private JTextField fileField;
+    private JSpinner batchSizeSpinner;
+    private JProgressBar progressBar;
+    private JLabel statusLabel;
+    private JTextArea errorArea;
+    private JButton browseButton;
+    private JButton importButton;
+    private JButton cancelButton;
+    private SwingWorker<CsvImportService.ImportReport, CsvImportService.ImportProgress> worker;
+    private AtomicBoolean cancelRequested;
+
+    /**
+     * @param onImported called on the EDT once after an import that wrote anything
+     */
+    public CsvImportDialog(JFrame parent, Runnable onImported) {
+        super(parent, "Import from CSV", true);
+        this.importService = new CsvImportService();
+        this.onImported = onImported;
+
+        initializeComponents();
+        setupLayout();
+
+        setSize(700, 500);
+        setLocationRelativeTo(parent);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+    }
+
+    private void initializeComponents() {
+        fileField = new JTextField(30);
+        fileField.setEditable(false);
+        browseButton = new JButton("Browse...");
+        UIStyler.styleButton(browseButton);
+        browseButton.addActionListener(e -> chooseFile());
+
+        batchSizeSpinner = new JSpinner(new SpinnerNumberModel(CsvImportService.DEFAULT_BATCH_SIZE, 1, 10_000, 100));
+        batchSizeSpinner.setToolTipText("Lines written per transaction");
+
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        statusLabel = new JLabel("Select a CSV file to import");
+
+        errorArea = new JTextArea();
+        errorArea.setEditable(false);
+        errorArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        errorArea.setText("Format, one record per line:\n"
+                + "  hospital,<name>,<address>,<contact>,<description>\n"
+                + "  department,<hospital name>,<section name>,<price per student>\n"
+                + "  slot,<hospital name>,<section name>,<YYYY-MM-DD>,<HH:MM start>,<HH:MM end>,<capacity>\n");
+
+        importButton = new JButton("Import");
+        UIStyler.styleButton(importButton);
+        importButton.setEnabled(false);
+        importButton.addActionListener(e -> startImport());
+
+        cancelButton = new JButton("Close");
+        UIStyler.styleButton(cancelButton);
+        cancelButton.addActionListener(e -> {
+            if (worker != null && !worker.isDone()) {
+                // Stops after the chunk being written; committed chunks are kept. Not worker.cancel(true):
+                // that would run done() before the chunk commits and interrupt the file read
+                cancelRequested.set(true);
+                cancelButton.setEnabled(false);
+                statusLabel.setText("Cancelling after the current batch...");
+            } else {
+                dispose();
+            }
+        });
+    }
+
+    private void setupLayout() {
+        JPanel formPanel = new JPanel(new GridBagLayout());
+        formPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 5, 10));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        gbc.gridx = 0; gbc.gridy = 0;
+        formPanel.add(new JLabel("CSV File:"), gbc);
+        gbc.gridx = 1; gbc.fill = GridBagConstraints.HORIZONTAL; gbc.weightx = 1.0;
+        formPanel.add(fileField, gbc);
+        gbc.gridx = 2; gbc.fill = GridBagConstraints.NONE; gbc.weightx = 0;
+        formPanel.add(browseButton, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 1;
+        formPanel.add(new JLabel("Batch Size:"), gbc);
+        gbc.gridx = 1;
+        formPanel.add(batchSizeSpinner, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 2; gbc.gridwidth = 3; gbc.fill = GridBagConstraints.HORIZONTAL;
+        formPanel.add(progressBar, gbc);
+        gbc.gridy = 3;
+        formPanel.add(statusLabel, gbc);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(importButton);
+        buttonPanel.add(cancelButton);
+
+        JScrollPane errorScrollPane = new JScrollPane(errorArea);
+        errorScrollPane.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createEmptyBorder(0, 15, 0, 15), BorderFactory.createTitledBorder("Messages")));
+
+        setLayout(new BorderLayout());
+        add(formPanel, BorderLayout.NORTH);
+        add(errorScrollPane, BorderLayout.CENTER);
+        add(buttonPanel, BorderLayout.SOUTH);
+    }
+
+    private void chooseFile() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV files", "csv"));
+        if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+            fileField.setText(chooser.getSelectedFile().getAbsolutePath());
+            importButton.setEnabled(true);
+        }
+    }
+
+    private void startImport() {
+        File file = new File(fileField.getText());
+        int batchSize = (Integer) batchSizeSpinner.getValue();
+
+        importButton.setEnabled(false);
+        browseButton.setEnabled(false);
+        batchSizeSpinner.setEnabled(false);
+        cancelButton.setText("Cancel");
+        errorArea.setText("");
+        progressBar.setValue(0);
+        statusLabel.setText("Importing " + file.getName() + "...");
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        cancelRequested = cancelled;
+        worker = new SwingWorker<>() {
+            @Override
+            protected CsvImportService.ImportReport doInBackground() throws Exception {
+                return importService.importFile(file.toPath(), batchSize, this::publish, cancelled::get);
+            }
+
+            @Override
+            protected void process(List<CsvImportService.ImportProgress> chunks) {
+                CsvImportService.ImportProgress latest = chunks.get(chunks.size() - 1);
+                progressBar.setValue((int) Math.round(latest.getFraction() * 100));
+                statusLabel.setText(String.format("%,d lines read, %,d imported, %,d failed",
+                        latest.getLinesRead(), latest.getImported(), latest.getFailed()));
+            }
+
+            @Override
+            protected void done() {
+                cancelButton.setText("Close");
+                cancelButton.setEnabled(true);
+                browseButton.setEnabled(true);
+                batchSizeSpinner.setEnabled(true);
+                importButton.setEnabled(true);
+                try {
+                    showReport(get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    statusLabel.setText("Import failed");
+                    JOptionPane.showMessageDialog(CsvImportDialog.this,
+                            "Import failed: " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        };
+        // Long-running bulk work stays in the background lane so it never delays interactive queries
+        DatabaseExecutor.execute(DatabaseExecutor.Priority.BACKGROUND, worker);
+    }
+
+    private void showReport(CsvImportService.ImportReport report) {
+        if (report.isCancelled()) {
+            statusLabel.setText(report.getSummary(0) + "; batches already written were kept");
+        } else {
+            progressBar.setValue(100);
+            statusLabel.setText(report.getSummary(0));
+        }
+        StringBuilder errors = new StringBuilder();
+        for (CsvImportService.LineError error : report.getErrors().subList(0, Math.min(MAX_ERRORS_SHOWN, report.getErrors().size()))) {
+            errors.append(error).append('\n');
+        }
+        if (report.getFailed() > MAX_ERRORS_SHOWN) {
+            errors.append("... ").append(report.getFailed() - MAX_ERRORS_SHOWN).append(" more\n");
+        }
+        errorArea.setText(errors.length() > 0 ? errors.toString() : "No errors.");
+        errorArea.setCaretPosition(0);
+        if (report.getImported() > 0) {
+            onImported.run();
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package org.example.ui.dialogs;
 
+import org.example.services.CsvExportService;
 import org.example.services.HospitalService;
+import org.example.utils.DatabaseExecutor;
+import org.example.utils.DatabaseWorker;
+import org.example.utils.QueryHandle;
 import org.example.utils.UIStyler;
 
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Dialog for drilling down from departments to schools to students
@@ -15,6 +27,9 @@ import java.awt.event.MouseEvent;
 public class DepartmentDrillDownDialog {
     private final JFrame parent;
     private final HospitalService hospitalService;
+    private final CsvExportService exportService = new CsvExportService();
+    // Drill-down load in flight; a second double-click supersedes it
+    private QueryHandle studentsLoad;
 
     public DepartmentDrillDownDialog(JFrame parent, HospitalService hospitalService) {
         this.parent = parent;
@@ -22,12 +37,29 @@ public class DepartmentDrillDownDialog {
     }
 
     /**
-     * Show schools that have bookings under a specific department
+     * Show schools that have bookings under a specific department.
+     * The name and school queries run in parallel in the interactive lane, ahead of queued bulk refreshes.
      */
     public void showSchoolsByDepartment(int departmentId) {
-        String departmentName = hospitalService.getDepartmentName(departmentId);
-        Object[][] schoolData = hospitalService.fetchSchoolsByDepartment(departmentId);
+        parent.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+
+        CompletableFuture<String> departmentName = DatabaseExecutor.supplyAsync(
+            DatabaseExecutor.Priority.INTERACTIVE, () -> hospitalService.getDepartmentName(departmentId));
+        CompletableFuture<Object[][]> schoolData = DatabaseExecutor.supplyAsync(
+            DatabaseExecutor.Priority.INTERACTIVE, () -> hospitalService.fetchSchoolsByDepartment(departmentId));
+
+        CompletableFuture.allOf(departmentName, schoolData)
+            .whenComplete((ignored, error) -> SwingUtilities.invokeLater(() -> {
+                parent.setCursor(Cursor.getDefaultCursor());
+                if (error != null) {
+                    showLoadError(error);
+                } else {
+                    displaySchoolsByDepartment(departmentId, departmentName.join(), schoolData.join());
+                }
+            }));
+    }
 
+    private void displaySchoolsByDepartment(int departmentId, String departmentName, Object[][] schoolData) {
         if (schoolData.length == 0) {
             JOptionPane.showMessageDialog(parent,
                 "No schools have bookings in this department yet.",
@@ -96,8 +128,21 @@ public class DepartmentDrillDownDialog {
      * Show students from a specific school that have bookings in a specific department
      */
     public void showStudentsBySchoolAndDepartment(int schoolId, String schoolName, int departmentId, String departmentName) {
-        Object[][] studentData = hospitalService.fetchStudentsBySchoolAndDepartment(schoolId, departmentId);
+        if (studentsLoad != null) {
+            studentsLoad.cancel();
+        }
+        studentsLoad = DatabaseWorker.execute(
+            DatabaseExecutor.Priority.INTERACTIVE,
+            () -> hospitalService.fetchStudentsBySchoolAndDepartment(schoolId, departmentId),
+            studentData -> displayStudentsBySchoolAndDepartment(schoolId, schoolName, departmentId, departmentName, studentData),
+            this::showLoadError,
+            () -> parent.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR)),
+            () -> parent.setCursor(Cursor.getDefaultCursor())
+        );
+    }
 
+    private void displayStudentsBySchoolAndDepartment(int schoolId, String schoolName, int departmentId,
+                                                      String departmentName, Object[][] studentData) {
         if (studentData.length == 0) {
             JOptionPane.showMessageDialog(parent,
                 "No students from " + schoolName + " have bookings in " + departmentName + ".",
@@ -153,24 +198,125 @@ public class DepartmentDrillDownDialog {
 
         dialog.add(scrollPane, BorderLayout.CENTER);
 
-        // Footer with export option (could be implemented later)
+        // Footer with a streaming export that re-runs the query instead of copying the table
         JPanel footerPanel = new JPanel(new FlowLayout());
         JButton exportButton = new JButton("📋 Export to CSV");
         exportButton.setFont(UIStyler.MAIN_FONT);
+        JButton cancelExportButton = new JButton("Cancel Export");
+        cancelExportButton.setFont(UIStyler.MAIN_FONT);
+        cancelExportButton.setVisible(false);
+        JLabel exportStatusLabel = new JLabel();
+        exportStatusLabel.setFont(UIStyler.MAIN_FONT);
+
+        CsvExportService.ExportJob[] currentExport = new CsvExportService.ExportJob[1];
         exportButton.addActionListener(e -> {
-            JOptionPane.showMessageDialog(dialog,
-                "Export functionality will be implemented soon!",
-                "Feature Coming Soon",
-                JOptionPane.INFORMATION_MESSAGE);
+            Path target = chooseExportFile(dialog, schoolName + " - " + departmentName + ".csv");
+            if (target != null) {
+                currentExport[0] = exportStudentsToCsv(schoolId, departmentId, target,
+                        exportButton, cancelExportButton, exportStatusLabel);
+            }
+        });
+        cancelExportButton.addActionListener(e -> {
+            if (currentExport[0] != null) {
+                currentExport[0].cancel();
+                cancelExportButton.setEnabled(false);
+            }
+        });
+        dialog.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                if (currentExport[0] != null) {
+                    currentExport[0].cancel();
+                }
+            }
         });
         footerPanel.add(exportButton);
+        footerPanel.add(cancelExportButton);
+        footerPanel.add(exportStatusLabel);
         dialog.add(footerPanel, BorderLayout.SOUTH);
+        dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
 
         dialog.setSize(900, 600);
         dialog.setLocationRelativeTo(parent);
         dialog.setVisible(true);
     }
 
+    private Path chooseExportFile(Component owner, String suggestedName) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV files", "csv"));
+        chooser.setSelectedFile(new File(suggestedName.replaceAll("[\\\\/:*?\"<>|]", "_")));
+        if (chooser.showSaveDialog(owner) != JFileChooser.APPROVE_OPTION) {
+            return null;
+        }
+        File file = chooser.getSelectedFile();
+        if (!file.getName().toLowerCase().endsWith(".csv")) {
+            file = new File(file.getParentFile(), file.getName() + ".csv");
+        }
+        if (file.exists() && JOptionPane.showConfirmDialog(owner,
+                file.getName() + " already exists. Replace it?", "Confirm Export",
+                JOptionPane.YES_NO_OPTION) != JOptionPane.YES_OPTION) {
+            return null;
+        }
+        return file.toPath();
+    }
+
+    /**
+     * Stream the students of a school in a department to a CSV file in the background lane.
+     * Progress and the outcome are shown in the given footer components.
+     */
+    private CsvExportService.ExportJob exportStudentsToCsv(int schoolId, int departmentId, Path target,
+                                                           JButton exportButton, JButton cancelButton, JLabel statusLabel) {
+        CsvExportService.ExportJob job = new CsvExportService.ExportJob();
+        exportButton.setEnabled(false);
+        cancelButton.setEnabled(true);
+        cancelButton.setVisible(true);
+        statusLabel.setText("Exporting...");
+
+        SwingWorker<Long, Long> worker = new SwingWorker<>() {
+            @Override
+            protected Long doInBackground() throws Exception {
+                return exportService.exportStudentsBySchoolAndDepartment(schoolId, departmentId, target, job, this::publish);
+            }
+
+            @Override
+            protected void process(java.util.List<Long> chunks) {
+                statusLabel.setText(String.format("Exporting... %,d rows written", chunks.get(chunks.size() - 1)));
+            }
+
+            @Override
+            protected void done() {
+                exportButton.setEnabled(true);
+                cancelButton.setVisible(false);
+                try {
+                    statusLabel.setText(String.format("Exported %,d rows to %s", get(), target.getFileName()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof CancellationException) {
+                        statusLabel.setText("Export cancelled");
+                    } else {
+                        statusLabel.setText("Export failed");
+                        JOptionPane.showMessageDialog(exportButton,
+                            "Failed to export students: " + cause.getMessage(),
+                            "Export Error",
+                            JOptionPane.ERROR_MESSAGE);
+                    }
+                }
+            }
+        };
+        DatabaseExecutor.execute(DatabaseExecutor.Priority.BACKGROUND, worker);
+        return job;
+    }
+
+    private void showLoadError(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        JOptionPane.showMessageDialog(parent,
+            "Failed to load drill-down data: " + cause.getMessage(),
+            "Database Error",
+            JOptionPane.ERROR_MESSAGE);
+    }
+
     /**
      * Create a styled header panel for dialogs
      */
@@ -54,7 +54,13 @@ public class SchoolDialogs {
      * Show students dialog for a specific school
      */
     public void showSchoolStudentsDialog(Object schoolId) {
-        Object[][] data = schoolService.fetchStudentsForSchool(schoolId);
+        showSchoolStudentsDialog(schoolId, schoolService.fetchStudentsForSchool(schoolId));
+    }
+
+    /**
+     * Show students dialog for a school whose students were already fetched
+     */
+    public void showSchoolStudentsDialog(Object schoolId, Object[][] data) {
         String[] columns = {"Student ID", "Name", "Email", "Added At"};
 
         JTable table = UIStyler.createStyledTable(data, columns);
@@ -0,0 +1,244 @@
+package org.example.ui.dialogs;
+
+import org.example.models.DepartmentItem;
+import org.example.models.TimeSlotPlan;
+import org.example.services.HospitalService;
+import org.example.utils.DatabaseExecutor;
+import org.example.utils.DatabaseWorker;
+import org.example.utils.UIStyler;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dialog to create the time slots of a department for a whole date range at once
+ */
+public class TimeSlotGeneratorDialog extends JDialog {
+    private final HospitalService hospitalService;
+    private final Runnable onGenerated;
+
+    private JComboBox<DepartmentItem> departmentCombo;
+    private JTextField startDateField;
+    private JTextField endDateField;
+    private final Map<DayOfWeek, JCheckBox> weekdayBoxes = new EnumMap<>(DayOfWeek.class);
+    private JTextArea windowsArea;
+    private JTextField capacityField;
+    private JLabel previewLabel;
+    private JButton generateButton;
+
+    /**
+     * @param onGenerated called on the EDT after the slots were committed
+     */
+    public TimeSlotGeneratorDialog(JFrame parent, List<DepartmentItem> departments, Runnable onGenerated) {
+        super(parent, "Generate Time Slots", true);
+        this.hospitalService = new HospitalService();
+        this.onGenerated = onGenerated;
+
+        initializeComponents(departments);
+        setupLayout();
+        updatePreview();
+
+        pack();
+        setLocationRelativeTo(parent);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+    }
+
+    private void initializeComponents(List<DepartmentItem> departments) {
+        departmentCombo = new JComboBox<>(departments.toArray(new DepartmentItem[0]));
+
+        LocalDate today = LocalDate.now();
+        startDateField = new JTextField(today.toString(), 12);
+        startDateField.setToolTipText("Format: YYYY-MM-DD");
+        endDateField = new JTextField(today.plusMonths(1).toString(), 12);
+        endDateField.setToolTipText("Format: YYYY-MM-DD");
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            JCheckBox box = new JCheckBox(day.getDisplayName(TextStyle.SHORT, Locale.getDefault()),
+                    day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY);
+            box.addActionListener(e -> updatePreview());
+            weekdayBoxes.put(day, box);
+        }
+
+        windowsArea = new JTextArea("08:00-12:00\n13:00-17:00", 5, 20);
+        windowsArea.setToolTipText("One time window per line, format: HH:MM-HH:MM");
+        capacityField = new JTextField("50", 6);
+
+        DocumentListener previewListener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                updatePreview();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                updatePreview();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                updatePreview();
+            }
+        };
+        startDateField.getDocument().addDocumentListener(previewListener);
+        endDateField.getDocument().addDocumentListener(previewListener);
+        windowsArea.getDocument().addDocumentListener(previewListener);
+        capacityField.getDocument().addDocumentListener(previewListener);
+
+        previewLabel = new JLabel(" ");
+        generateButton = new JButton("Generate");
+        UIStyler.styleButton(generateButton);
+        generateButton.addActionListener(e -> generate());
+    }
+
+    private void setupLayout() {
+        JPanel formPanel = new JPanel(new GridBagLayout());
+        formPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        addRow(formPanel, gbc, 0, "Department:", departmentCombo);
+        addRow(formPanel, gbc, 1, "Start Date:", startDateField);
+        addRow(formPanel, gbc, 2, "End Date:", endDateField);
+
+        JPanel weekdayPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 2, 0));
+        weekdayBoxes.values().forEach(weekdayPanel::add);
+        addRow(formPanel, gbc, 3, "Weekdays:", weekdayPanel);
+
+        addRow(formPanel, gbc, 4, "Time Windows:", new JScrollPane(windowsArea));
+        addRow(formPanel, gbc, 5, "Capacity:", capacityField);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton cancelButton = new JButton("Cancel");
+        UIStyler.styleButton(cancelButton);
+        cancelButton.addActionListener(e -> dispose());
+        buttonPanel.add(generateButton);
+        buttonPanel.add(cancelButton);
+
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        bottomPanel.setBorder(BorderFactory.createEmptyBorder(0, 15, 5, 5));
+        bottomPanel.add(previewLabel, BorderLayout.CENTER);
+        bottomPanel.add(buttonPanel, BorderLayout.EAST);
+
+        setLayout(new BorderLayout());
+        add(formPanel, BorderLayout.CENTER);
+        add(bottomPanel, BorderLayout.SOUTH);
+    }
+
+    private void addRow(JPanel panel, GridBagConstraints gbc, int row, String label, JComponent field) {
+        gbc.gridx = 0; gbc.gridy = row; gbc.fill = GridBagConstraints.NONE; gbc.weightx = 0;
+        panel.add(new JLabel(label), gbc);
+        gbc.gridx = 1; gbc.fill = GridBagConstraints.HORIZONTAL; gbc.weightx = 1.0;
+        panel.add(field, gbc);
+    }
+
+    /**
+     * Build the plan from the form; throws IllegalArgumentException with a user-facing message if invalid
+     */
+    private TimeSlotPlan buildPlan() {
+        DepartmentItem department = (DepartmentItem) departmentCombo.getSelectedItem();
+        if (department == null) {
+            throw new IllegalArgumentException("Please select a department");
+        }
+
+        LocalDate startDate;
+        LocalDate endDate;
+        try {
+            startDate = LocalDate.parse(startDateField.getText().trim());
+            endDate = LocalDate.parse(endDateField.getText().trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Dates must use the format YYYY-MM-DD");
+        }
+
+        Set<DayOfWeek> weekdays = EnumSet.noneOf(DayOfWeek.class);
+        weekdayBoxes.forEach((day, box) -> {
+            if (box.isSelected()) {
+                weekdays.add(day);
+            }
+        });
+
+        int capacity;
+        try {
+            capacity = Integer.parseInt(capacityField.getText().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Please enter a valid capacity number");
+        }
+
+        return new TimeSlotPlan(department.getId(), startDate, endDate, weekdays,
+                TimeSlotPlan.parseWindows(windowsArea.getText()), capacity);
+    }
+
+    /**
+     * Show how many dates and slots the current form would create, without touching the database
+     */
+    private void updatePreview() {
+        try {
+            TimeSlotPlan plan = buildPlan();
+            int dates = plan.expandDates().size();
+            previewLabel.setForeground(UIManager.getColor("Label.foreground"));
+            previewLabel.setText(String.format("%d dates × %d windows = %d time slots",
+                    dates, plan.getWindows().size(), plan.getSlotCount()));
+            generateButton.setEnabled(plan.getSlotCount() > 0);
+        } catch (IllegalArgumentException e) {
+            previewLabel.setForeground(Color.RED);
+            previewLabel.setText(e.getMessage());
+            generateButton.setEnabled(false);
+        }
+    }
+
+    private void generate() {
+        TimeSlotPlan plan;
+        try {
+            plan = buildPlan();
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        int confirm = JOptionPane.showConfirmDialog(this,
+                "Create " + plan.getSlotCount() + " time slots for " + departmentCombo.getSelectedItem() + "?",
+                "Confirm Generation", JOptionPane.YES_NO_OPTION);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+
+        DatabaseWorker.execute(DatabaseExecutor.Priority.INTERACTIVE,
+                () -> {
+                    try {
+                        return hospitalService.generateTimeSlots(plan);
+                    } catch (java.sql.SQLException e) {
+                        throw new RuntimeException(e.getMessage(), e);
+                    }
+                },
+                created -> {
+                    JOptionPane.showMessageDialog(this,
+                            created + " time slots generated successfully!",
+                            "Success", JOptionPane.INFORMATION_MESSAGE);
+                    dispose();
+                    onGenerated.run();
+                },
+                error -> JOptionPane.showMessageDialog(this,
+                        "Failed to generate time slots; nothing was saved.\n" + error.getMessage(),
+                        "Error", JOptionPane.ERROR_MESSAGE),
+                () -> {
+                    generateButton.setEnabled(false);
+                    generateButton.setText("Generating...");
+                },
+                () -> {
+                    generateButton.setText("Generate");
+                    updatePreview();
+                });
+    }
+}
@@ -1,10 +1,12 @@
 package org.example.ui.dialogs;
 
 import org.example.services.HospitalService;
+import org.example.ui.models.ArrayTableModel;
+import org.example.utils.DatabaseExecutor;
+import org.example.utils.QueryHandle;
 import org.example.utils.UIStyler;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
@@ -15,10 +17,11 @@ import java.awt.event.MouseEvent;
 public class TimeslotStudentsDialog extends JDialog {
     private final HospitalService hospitalService;
     private final int timeSlotId;
-    private DefaultTableModel tableModel;
+    private ArrayTableModel tableModel;
     private JTable studentsTable;
     private JLabel statusLabel;
     private JProgressBar progressBar;
+    private QueryHandle loadHandle;
 
     public TimeslotStudentsDialog(JFrame parent, int timeSlotId) {
         super(parent, "Students for Timeslot", true);
@@ -41,12 +44,7 @@ public class TimeslotStudentsDialog extends JDialog {
             "School", "Booking Date", "Status"
         };
 
-        tableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Make table read-only
-            }
-        };
+        tableModel = new ArrayTableModel(columns); // Read-only
 
         studentsTable = UIStyler.createStyledTable(new Object[0][0], columns);
         studentsTable.setModel(tableModel);
@@ -109,14 +107,12 @@ public class TimeslotStudentsDialog extends JDialog {
         detailsLabel.setForeground(UIStyler.TEXT_COLOR.brighter());
 
         // Load timeslot details in background
-        Thread thread = new Thread(() -> {
+        DatabaseExecutor.execute(DatabaseExecutor.Priority.INTERACTIVE, () -> {
             String details = hospitalService.getTimeslotDetails(timeSlotId);
             SwingUtilities.invokeLater(() -> {
                 detailsLabel.setText(details);
             });
         });
-        thread.setDaemon(true);
-        thread.start();
 
         JPanel textPanel = new JPanel();
         textPanel.setLayout(new BoxLayout(textPanel, BoxLayout.Y_AXIS));
@@ -142,8 +138,8 @@ public class TimeslotStudentsDialog extends JDialog {
         statusLabel.setText("Loading students...");
         statusLabel.setForeground(Color.BLUE);
 
-        // Use threading to prevent UI freezing
-        hospitalService.fetchStudentsByTimeslotAsync(
+        // Use threading to prevent UI freezing; closing the dialog cancels the query
+        loadHandle = hospitalService.fetchStudentsByTimeslotAsync(
             timeSlotId,
 
             // On success
@@ -181,14 +177,20 @@ public class TimeslotStudentsDialog extends JDialog {
         );
     }
 
-    private void updateTable(Object[][] data) {
-        // Clear existing data
-        tableModel.setRowCount(0);
-
-        // Add new data
-        for (Object[] row : data) {
-            tableModel.addRow(row);
+    /**
+     * Cancel the load if it is still running, so its result is not applied to a closed dialog
+     */
+    @Override
+    public void dispose() {
+        if (loadHandle != null) {
+            loadHandle.cancel();
         }
+        super.dispose();
+    }
+
+    private void updateTable(Object[][] data) {
+        // Hand the result array to the model; one event refreshes the table
+        tableModel.setData(data);
 
         // Auto-resize columns
         studentsTable.setAutoResizeMode(JTable.AUTO_RESIZE_ALL_COLUMNS);
@@ -2,6 +2,8 @@ package org.example.ui.handlers;
 
 import org.example.services.SchoolService;
 import org.example.ui.dialogs.SchoolDialogs;
+import org.example.utils.DatabaseExecutor;
+import org.example.utils.DatabaseWorker;
 
 import javax.swing.*;
 import java.awt.*;
@@ -74,20 +76,34 @@ public class SchoolTableEventHandler {
     }
 
     /**
-     * Handles click on approved school - shows students if available
+     * Handles click on approved school - shows students if available.
+     * The students are fetched once, in the background, and handed to the dialog.
      */
     private void handleApprovedSchoolClick(Object schoolId, JTable table) {
-        Object[][] studentData = schoolService.fetchStudentsForSchool(schoolId);
-        if (studentData.length > 0) {
-            schoolDialogs.showSchoolStudentsDialog(schoolId);
-        } else {
-            JOptionPane.showMessageDialog(
+        DatabaseWorker.execute(
+            DatabaseExecutor.Priority.INTERACTIVE,
+            () -> schoolService.fetchStudentsForSchool(schoolId),
+            studentData -> {
+                if (studentData.length > 0) {
+                    schoolDialogs.showSchoolStudentsDialog(schoolId, studentData);
+                } else {
+                    JOptionPane.showMessageDialog(
+                        SwingUtilities.getWindowAncestor(table),
+                        "This approved school has no students added yet.",
+                        "No Students Found",
+                        JOptionPane.INFORMATION_MESSAGE
+                    );
+                }
+            },
+            error -> JOptionPane.showMessageDialog(
                 SwingUtilities.getWindowAncestor(table),
-                "This approved school has no students added yet.",
-                "No Students Found",
-                JOptionPane.INFORMATION_MESSAGE
-            );
-        }
+                "Failed to load students: " + error.getMessage(),
+                "Error",
+                JOptionPane.ERROR_MESSAGE
+            ),
+            () -> table.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR)),
+            () -> table.setCursor(Cursor.getDefaultCursor())
+        );
     }
 
     /**
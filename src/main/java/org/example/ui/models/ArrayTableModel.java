@@ -0,0 +1,129 @@
+package org.example.ui.models;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+
+/**
+ * Table model over a plain {@code Object[][]}, for untyped result sets.
+ * Unlike DefaultTableModel it keeps no synchronized Vectors and copies nothing: the model takes ownership
+ * of the array it is given, and {@link #setData(Object[][])} swaps in a new result with a single table event.
+ * Results that arrive in chunks are added with {@link #appendRows(Object[][])}, one rows-inserted event per chunk.
+ *
+ * Must be used on the EDT; callers must not modify an array after handing it over.
+ */
+public class ArrayTableModel extends AbstractTableModel {
+    private static final Object[][] NO_ROWS = new Object[0][];
+
+    private Object[][] rows;
+    private int rowCount;
+    private String[] columnNames;
+    private boolean[] editableColumns;
+
+    public ArrayTableModel(String... columnNames) {
+        this(NO_ROWS, columnNames);
+    }
+
+    public ArrayTableModel(Object[][] rows, String... columnNames) {
+        this.rows = rows != null ? rows : NO_ROWS;
+        this.rowCount = this.rows.length;
+        this.columnNames = columnNames;
+        this.editableColumns = new boolean[columnNames.length];
+    }
+
+    /**
+     * Replace all rows with {@code newRows}, which the model now owns; fires one data-changed event
+     */
+    public void setData(Object[][] newRows) {
+        rows = newRows != null ? newRows : NO_ROWS;
+        rowCount = rows.length;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Replace the rows and the columns at once; fires one structure-changed event
+     */
+    public void setData(Object[][] newRows, String... newColumnNames) {
+        rows = newRows != null ? newRows : NO_ROWS;
+        rowCount = rows.length;
+        columnNames = newColumnNames;
+        editableColumns = new boolean[newColumnNames.length];
+        fireTableStructureChanged();
+    }
+
+    /**
+     * Add a chunk of rows at the end; fires one rows-inserted event.
+     * Storage grows by doubling, so appending many chunks copies each row only a few times.
+     */
+    public void appendRows(Object[][] chunk) {
+        if (chunk.length == 0) {
+            return;
+        }
+        int first = rowCount;
+        if (first + chunk.length > rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(rows.length * 2, first + chunk.length));
+        }
+        System.arraycopy(chunk, 0, rows, first, chunk.length);
+        rowCount += chunk.length;
+        fireTableRowsInserted(first, rowCount - 1);
+    }
+
+    /**
+     * Mark columns as editable, e.g. ones hosting action button editors
+     */
+    public void setEditableColumns(int... columns) {
+        editableColumns = new boolean[columnNames.length];
+        for (int column : columns) {
+            editableColumns[column] = true;
+        }
+    }
+
+    public Object[] getRow(int rowIndex) {
+        return rows[rowIndex];
+    }
+
+    public String[] getColumnNames() {
+        return columnNames.clone();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        // Lets renderers and sorters treat numbers and dates by type; result columns are homogeneous
+        Object value = rowCount > 0 && column < rows[0].length ? rows[0][column] : null;
+        return value != null ? value.getClass() : Object.class;
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int column) {
+        return editableColumns[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int column) {
+        Object[] row = rows[rowIndex];
+        return column < row.length ? row[column] : null;
+    }
+
+    @Override
+    public void setValueAt(Object value, int rowIndex, int column) {
+        Object[] row = rows[rowIndex];
+        if (column < row.length) {
+            row[column] = value;
+            fireTableCellUpdated(rowIndex, column);
+        }
+    }
+}
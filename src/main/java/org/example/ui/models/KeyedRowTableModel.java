@@ -0,0 +1,54 @@
+package org.example.ui.models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Row table model that refreshes by primary key.
+ * {@link #replaceRows(List)} diffs the new rows against the current ones and fires only the
+ * deleted, inserted and updated ranges, so the table keeps its selection and scroll position.
+ */
+public class KeyedRowTableModel<K, R> extends RowTableModel<R> {
+
+    private final Function<? super R, K> keyOf;
+
+    // The array only reaches RowTableModel's constructor, which copies it
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public KeyedRowTableModel(Function<? super R, K> keyOf, Column<R>... columns) {
+        super(columns);
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Bring the model in line with {@code newRows}, firing the minimal table events.
+     * Falls back to a full replace if the rows that are in both lists changed order.
+     */
+    public void replaceRows(List<R> newRows) {
+        List<R> next = newRows != null ? newRows : new ArrayList<>();
+        boolean applied = RowDiff.apply(rows, next, keyOf, RowDiff.sameCells(columns), new RowDiff.Listener() {
+            @Override
+            public void deleted(int first, int last) {
+                fireTableRowsDeleted(first, last);
+            }
+
+            @Override
+            public void inserted(int first, int last) {
+                fireTableRowsInserted(first, last);
+            }
+
+            @Override
+            public void updated(int first, int last) {
+                fireTableRowsUpdated(first, last);
+            }
+        });
+        if (!applied) {
+            setRows(next);
+        }
+    }
+
+    public K getKey(int rowIndex) {
+        return keyOf.apply(getRow(rowIndex));
+    }
+}
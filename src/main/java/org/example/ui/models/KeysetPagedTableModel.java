@@ -0,0 +1,386 @@
+package org.example.ui.models;
+
+import org.example.utils.DatabaseExecutor;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Virtual table model over a keyset-paginated query.
+ * Pages are appended as the user scrolls ({@link #loadNextPage()}), and only the most recently used
+ * pages keep their rows in memory. An evicted page remembers its key range and row count, so the table
+ * keeps its size, and it is reloaded in the background when one of its rows is painted again.
+ *
+ * All methods must be called on the EDT; queries run on the database executor.
+ */
+public class KeysetPagedTableModel<R> extends AbstractTableModel {
+
+    /**
+     * Loads rows with keys in ({@code afterKey}, {@code upToKey}], in key order
+     */
+    public interface PageLoader<R> {
+        List<R> load(int afterKey, Integer upToKey, int limit) throws Exception;
+    }
+
+    private final List<RowTableModel.Column<R>> columns;
+    private final PageLoader<R> loader;
+    private final ToIntFunction<R> keyOf;
+    private final int firstAfterKey;
+    private final int pageSize;
+    private final int maxResidentPages;
+
+    private final List<Page<R>> pages = new ArrayList<>();
+    // Start row of each page, for binary search from row index to page
+    private int[] pageOffsets = new int[0];
+    private int rowCount;
+    // Resident pages, least recently used first
+    private final LinkedHashSet<Page<R>> resident = new LinkedHashSet<>();
+
+    private boolean hasMore = true;
+    private boolean loadingNext;
+    // Bumped on reset so results of loads started before it are dropped
+    private int generation;
+
+    @SafeVarargs
+    public KeysetPagedTableModel(PageLoader<R> loader, ToIntFunction<R> keyOf, int firstAfterKey,
+                                 int pageSize, int maxResidentPages, RowTableModel.Column<R>... columns) {
+        if (pageSize < 1 || maxResidentPages < 2) {
+            throw new IllegalArgumentException("Invalid paging: pageSize=" + pageSize + ", maxResidentPages=" + maxResidentPages);
+        }
+        this.loader = loader;
+        this.keyOf = keyOf;
+        this.firstAfterKey = firstAfterKey;
+        this.pageSize = pageSize;
+        this.maxResidentPages = maxResidentPages;
+        List<RowTableModel.Column<R>> copy = new ArrayList<>(columns.length);
+        for (RowTableModel.Column<R> column : columns) {
+            copy.add(column);
+        }
+        this.columns = copy;
+    }
+
+    /**
+     * Drop every page and load the first one again
+     */
+    public void reset() {
+        generation++;
+        pages.clear();
+        resident.clear();
+        pageOffsets = new int[0];
+        rowCount = 0;
+        hasMore = true;
+        loadingNext = false;
+        fireTableDataChanged();
+        loadNextPage();
+    }
+
+    /**
+     * Append the next page unless one is already loading or the end has been reached
+     */
+    public void loadNextPage() {
+        if (!hasMore || loadingNext) {
+            return;
+        }
+        loadingNext = true;
+        int requestGeneration = generation;
+        int afterKey = pages.isEmpty() ? firstAfterKey : pages.get(pages.size() - 1).lastKey;
+
+        DatabaseExecutor.supplyAsync(DatabaseExecutor.Priority.INTERACTIVE, () -> loadQuietly(afterKey, null, pageSize))
+            .thenAccept(rows -> SwingUtilities.invokeLater(() -> {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                loadingNext = false;
+                if (rows == null) {
+                    return; // failed; the next scroll retries
+                }
+                hasMore = rows.size() == pageSize;
+                if (rows.isEmpty()) {
+                    return;
+                }
+                Page<R> page = new Page<>(afterKey, keyOf.applyAsInt(rows.get(rows.size() - 1)), rows);
+                int firstRow = rowCount;
+                pages.add(page);
+                rebuildOffsets();
+                touch(page);
+                fireTableRowsInserted(firstRow, rowCount - 1);
+            }));
+    }
+
+    /**
+     * Re-query the key range of every resident page and apply only the differences, so the table keeps
+     * its selection and scroll position. Evicted pages are fresh anyway when they are next painted, and rows
+     * added after the last page are picked up with one more page load.
+     */
+    public void refreshLoadedPages() {
+        if (pages.isEmpty()) {
+            reset();
+            return;
+        }
+        int requestGeneration = generation;
+        for (Page<R> page : new ArrayList<>(resident)) {
+            if (page.loading) {
+                continue;
+            }
+            page.loading = true;
+            DatabaseExecutor.supplyAsync(DatabaseExecutor.Priority.INTERACTIVE,
+                    () -> loadQuietly(page.afterKey, page.lastKey, Integer.MAX_VALUE))
+                .thenAccept(rows -> SwingUtilities.invokeLater(() -> {
+                    if (requestGeneration != generation) {
+                        return;
+                    }
+                    page.loading = false;
+                    // Evicted in the meantime: it is reloaded from the database when painted
+                    if (rows != null && page.rows != null && pages.contains(page)) {
+                        applyPageDiff(page, rows);
+                    }
+                }));
+        }
+        hasMore = true;
+        loadNextPage();
+    }
+
+    private void applyPageDiff(Page<R> page, List<R> newRows) {
+        int offset = pageOffsets[pages.indexOf(page)];
+        boolean applied = RowDiff.apply(page.rows, newRows, keyOf::applyAsInt, RowDiff.sameCells(columns), new RowDiff.Listener() {
+            @Override
+            public void deleted(int first, int last) {
+                page.size = page.rows.size();
+                rebuildOffsets();
+                fireTableRowsDeleted(offset + first, offset + last);
+            }
+
+            @Override
+            public void inserted(int first, int last) {
+                page.size = page.rows.size();
+                rebuildOffsets();
+                fireTableRowsInserted(offset + first, offset + last);
+            }
+
+            @Override
+            public void updated(int first, int last) {
+                fireTableRowsUpdated(offset + first, offset + last);
+            }
+        });
+        if (!applied) {
+            page.rows = new ArrayList<>(newRows);
+            page.size = newRows.size();
+            rebuildOffsets();
+            fireTableDataChanged();
+        }
+        if (page.size == 0) {
+            // Every row in the range is gone; the deletions were already fired
+            pages.remove(page);
+            resident.remove(page);
+            rebuildOffsets();
+        }
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    /**
+     * The row at a model index, or null while its page is evicted and being reloaded
+     */
+    public R getRow(int rowIndex) {
+        int pageIndex = pageIndexOf(rowIndex);
+        Page<R> page = pages.get(pageIndex);
+        if (page.rows == null) {
+            reloadPage(pageIndex);
+            return null;
+        }
+        touch(page);
+        int offset = rowIndex - pageOffsets[pageIndex];
+        return offset < page.rows.size() ? page.rows.get(offset) : null;
+    }
+
+    /**
+     * Replace a resident row in place; no-op if its page is evicted
+     */
+    public void setRow(int rowIndex, R row) {
+        int pageIndex = pageIndexOf(rowIndex);
+        Page<R> page = pages.get(pageIndex);
+        if (page.rows != null) {
+            page.rows.set(rowIndex - pageOffsets[pageIndex], row);
+            fireTableRowsUpdated(rowIndex, rowIndex);
+        }
+    }
+
+    /**
+     * Patch every resident row matching the filter, with a single table event.
+     * Evicted pages are not touched; they pick up the change from the database when reloaded.
+     */
+    public int updateRows(Predicate<? super R> filter, UnaryOperator<R> patch) {
+        int first = -1;
+        int last = -1;
+        int updated = 0;
+        for (int p = 0; p < pages.size(); p++) {
+            List<R> rows = pages.get(p).rows;
+            if (rows == null) {
+                continue;
+            }
+            for (int i = 0; i < rows.size(); i++) {
+                if (filter.test(rows.get(i))) {
+                    rows.set(i, patch.apply(rows.get(i)));
+                    int rowIndex = pageOffsets[p] + i;
+                    if (first < 0) {
+                        first = rowIndex;
+                    }
+                    last = rowIndex;
+                    updated++;
+                }
+            }
+        }
+        if (updated > 0) {
+            fireTableRowsUpdated(first, last);
+        }
+        return updated;
+    }
+
+    public String[] getColumnNames() {
+        return columns.stream().map(RowTableModel.Column::getName).toArray(String[]::new);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns.get(column).getName();
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columns.get(column).getType();
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int column) {
+        return columns.get(column).isEditable();
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int column) {
+        R row = getRow(rowIndex);
+        return row != null ? columns.get(column).getValue(row) : null;
+    }
+
+    private void reloadPage(int pageIndex) {
+        Page<R> page = pages.get(pageIndex);
+        if (page.loading) {
+            return;
+        }
+        page.loading = true;
+        int requestGeneration = generation;
+
+        DatabaseExecutor.supplyAsync(DatabaseExecutor.Priority.INTERACTIVE,
+                // The key range bounds the query, so rows inserted into it since are not cut off
+                () -> loadQuietly(page.afterKey, page.lastKey, Integer.MAX_VALUE))
+            .thenAccept(rows -> SwingUtilities.invokeLater(() -> {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                page.loading = false;
+                if (rows == null) {
+                    return;
+                }
+                int oldSize = page.size;
+                page.rows = new ArrayList<>(rows);
+                page.size = rows.size();
+                if (page.size == 0) {
+                    // Every row in the range is gone; later pages keep their own key ranges
+                    pages.remove(page);
+                    resident.remove(page);
+                    rebuildOffsets();
+                    fireTableDataChanged();
+                    return;
+                }
+                touch(page);
+                if (page.size == oldSize) {
+                    int first = pageOffsets[pages.indexOf(page)];
+                    fireTableRowsUpdated(first, first + page.size - 1);
+                } else {
+                    // Rows were added or removed in this key range since it was first loaded
+                    rebuildOffsets();
+                    fireTableDataChanged();
+                }
+            }));
+    }
+
+    private List<R> loadQuietly(int afterKey, Integer upToKey, int limit) {
+        try {
+            return loader.load(afterKey, upToKey, limit);
+        } catch (Exception e) {
+            System.err.println("Failed to load page after key " + afterKey + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Mark a page as most recently used and evict the least recently used ones beyond the limit
+     */
+    private void touch(Page<R> page) {
+        resident.remove(page);
+        resident.add(page);
+        Iterator<Page<R>> it = resident.iterator();
+        while (resident.size() > maxResidentPages && it.hasNext()) {
+            Page<R> eldest = it.next();
+            if (eldest != page) {
+                eldest.rows = null;
+                it.remove();
+            }
+        }
+    }
+
+    private int pageIndexOf(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + rowIndex + " of " + rowCount);
+        }
+        int index = Arrays.binarySearch(pageOffsets, rowIndex);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private void rebuildOffsets() {
+        pageOffsets = new int[pages.size()];
+        int offset = 0;
+        for (int i = 0; i < pages.size(); i++) {
+            pageOffsets[i] = offset;
+            offset += pages.get(i).size;
+        }
+        rowCount = offset;
+    }
+
+    /**
+     * A key range of rows; {@code rows} is null while the page is evicted
+     */
+    private static final class Page<R> {
+        private final int afterKey;
+        private final int lastKey;
+        private int size;
+        private List<R> rows;
+        private boolean loading;
+
+        Page(int afterKey, int lastKey, List<R> rows) {
+            this.afterKey = afterKey;
+            this.lastKey = lastKey;
+            this.rows = new ArrayList<>(rows);
+            this.size = rows.size();
+        }
+    }
+}
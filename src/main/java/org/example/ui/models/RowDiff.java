@@ -0,0 +1,117 @@
+package org.example.ui.models;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Applies a new row list onto the current one by key, reporting the minimal contiguous
+ * deleted, inserted and updated ranges as it goes so a table model can fire them one by one.
+ */
+final class RowDiff {
+
+    /**
+     * Receives each change right after it was applied to the list; indices are inclusive
+     */
+    interface Listener {
+        void deleted(int first, int last);
+
+        void inserted(int first, int last);
+
+        void updated(int first, int last);
+    }
+
+    private RowDiff() {
+    }
+
+    /**
+     * Rows whose cells all hold equal values, so an unchanged row fires no event
+     */
+    static <R> BiPredicate<R, R> sameCells(List<RowTableModel.Column<R>> columns) {
+        return (a, b) -> {
+            for (RowTableModel.Column<R> column : columns) {
+                if (!Objects.equals(column.getValue(a), column.getValue(b))) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Turn {@code current} into {@code next}. Returns false without touching {@code current}
+     * if keys are duplicated or rows present in both lists changed order; the caller should then
+     * replace the rows wholesale.
+     */
+    static <R, K> boolean apply(List<R> current, List<R> next, Function<? super R, K> keyOf,
+                                BiPredicate<R, R> sameCells, Listener listener) {
+        Map<K, Integer> nextIndex = new HashMap<>(next.size() * 2);
+        for (int i = 0; i < next.size(); i++) {
+            if (nextIndex.put(keyOf.apply(next.get(i)), i) != null) {
+                return false;
+            }
+        }
+        int previous = -1;
+        for (R row : current) {
+            Integer index = nextIndex.get(keyOf.apply(row));
+            if (index != null) {
+                if (index <= previous) {
+                    return false;
+                }
+                previous = index;
+            }
+        }
+
+        // Deletions from the end, so earlier indices stay valid
+        for (int i = current.size() - 1; i >= 0; i--) {
+            if (!nextIndex.containsKey(keyOf.apply(current.get(i)))) {
+                int last = i;
+                while (i > 0 && !nextIndex.containsKey(keyOf.apply(current.get(i - 1)))) {
+                    i--;
+                }
+                current.subList(i, last + 1).clear();
+                listener.deleted(i, last);
+            }
+        }
+
+        // What is left is an ordered subsequence of next: walk both, inserting new rows and patching changed ones
+        int pos = 0;
+        int j = 0;
+        while (j < next.size()) {
+            if (pos < current.size() && Objects.equals(keyOf.apply(current.get(pos)), keyOf.apply(next.get(j)))) {
+                int changedFirst = -1;
+                while (j < next.size() && pos < current.size()
+                        && Objects.equals(keyOf.apply(current.get(pos)), keyOf.apply(next.get(j)))) {
+                    // Always take the new row object, so callers never hold on to a stale one;
+                    // only rows whose cells changed need repainting
+                    boolean unchanged = sameCells.test(current.get(pos), next.get(j));
+                    current.set(pos, next.get(j));
+                    if (unchanged) {
+                        if (changedFirst >= 0) {
+                            listener.updated(changedFirst, pos - 1);
+                            changedFirst = -1;
+                        }
+                    } else if (changedFirst < 0) {
+                        changedFirst = pos;
+                    }
+                    pos++;
+                    j++;
+                }
+                if (changedFirst >= 0) {
+                    listener.updated(changedFirst, pos - 1);
+                }
+            } else {
+                int first = pos;
+                while (j < next.size() && !(pos < current.size()
+                        && Objects.equals(keyOf.apply(current.get(pos)), keyOf.apply(next.get(j))))) {
+                    current.add(pos++, next.get(j++));
+                }
+                listener.inserted(first, pos - 1);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.ui.models;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Table model backed by a list of typed row objects.
+ * Cells are read straight from the rows through per-column getters, so no Object[] copies are kept,
+ * and each column reports its real type for rendering and sorting.
+ */
+public class RowTableModel<R> extends AbstractTableModel {
+
+    /**
+     * One column: header, value type, getter and whether the cell hosts an editor (e.g. action buttons)
+     */
+    public static class Column<R> {
+        private final String name;
+        private final Class<?> type;
+        private final Function<R, ?> getter;
+        private final boolean editable;
+
+        public Column(String name, Class<?> type, Function<R, ?> getter) {
+            this(name, type, getter, false);
+        }
+
+        public Column(String name, Class<?> type, Function<R, ?> getter, boolean editable) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.editable = editable;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public boolean isEditable() {
+            return editable;
+        }
+
+        public Object getValue(R row) {
+            return getter.apply(row);
+        }
+    }
+
+    protected final List<Column<R>> columns;
+    protected List<R> rows = new ArrayList<>();
+
+    @SafeVarargs
+    public RowTableModel(Column<R>... columns) {
+        // Copied element by element: handing the generic varargs array on would let it escape
+        List<Column<R>> copy = new ArrayList<>(columns.length);
+        for (Column<R> column : columns) {
+            copy.add(column);
+        }
+        this.columns = Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * Replace all rows
+     */
+    public void setRows(List<R> newRows) {
+        rows = newRows != null ? new ArrayList<>(newRows) : new ArrayList<>();
+        fireTableDataChanged();
+    }
+
+    public List<R> getRows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    public R getRow(int rowIndex) {
+        return rows.get(rowIndex);
+    }
+
+    /**
+     * Replace a single row in place
+     */
+    public void setRow(int rowIndex, R row) {
+        rows.set(rowIndex, row);
+        fireTableRowsUpdated(rowIndex, rowIndex);
+    }
+
+    /**
+     * Remove every row matching the filter with one rows-deleted event per contiguous range, so the
+     * selection on the remaining rows is kept; returns the number removed
+     */
+    public int removeRows(Predicate<? super R> filter) {
+        int removed = 0;
+        // From the end, so earlier indices stay valid
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            if (filter.test(rows.get(i))) {
+                int last = i;
+                while (i > 0 && filter.test(rows.get(i - 1))) {
+                    i--;
+                }
+                rows.subList(i, last + 1).clear();
+                removed += last - i + 1;
+                fireTableRowsDeleted(i, last);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Replace every row matching the filter with a patched copy, with a single table event;
+     * returns the number updated
+     */
+    public int updateRows(Predicate<? super R> filter, UnaryOperator<R> patch) {
+        int first = -1;
+        int last = -1;
+        int updated = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (filter.test(rows.get(i))) {
+                rows.set(i, patch.apply(rows.get(i)));
+                if (first < 0) {
+                    first = i;
+                }
+                last = i;
+                updated++;
+            }
+        }
+        if (updated > 0) {
+            fireTableRowsUpdated(first, last);
+        }
+        return updated;
+    }
+
+    public String[] getColumnNames() {
+        return columns.stream().map(Column::getName).toArray(String[]::new);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns.get(column).name;
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columns.get(column).type;
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int column) {
+        return columns.get(column).editable;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int column) {
+        return columns.get(column).getValue(rows.get(rowIndex));
+    }
+
+    @Override
+    public void setValueAt(Object value, int rowIndex, int column) {
+        // Rows are immutable; editable columns host action editors and have nothing to store
+    }
+}
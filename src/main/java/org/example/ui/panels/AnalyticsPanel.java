@@ -0,0 +1,176 @@
+package org.example.ui.panels;
+
+import org.example.models.AnalyticsSnapshot;
+import org.example.services.AnalyticsService;
+import org.example.utils.UIStyler;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Analytics &amp; Reports tab: booking totals, pending lead times and capacity utilization.
+ * The data is aggregated once into a snapshot; changing the report or the hospital filter only
+ * re-slices the cached snapshot on the EDT.
+ */
+public class AnalyticsPanel extends JPanel {
+    private static final String ALL_HOSPITALS = "All Hospitals";
+    private static final DateTimeFormatter BUILT_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private static final String BY_HOSPITAL = "Bookings per Hospital";
+    private static final String BY_DEPARTMENT = "Bookings per Department";
+    private static final String BY_WEEK = "Bookings per Week";
+    private static final String LEAD_TIMES = "Pending Bookings by Days Left";
+    private static final String UTILIZATION = "Capacity Utilization";
+    private static final String[] REPORTS = {BY_HOSPITAL, BY_DEPARTMENT, BY_WEEK, LEAD_TIMES, UTILIZATION};
+
+    private static final String[] BOOKING_COLUMNS = {"Bookings", "Students", "Approved", "Pending"};
+    private static final String[] LEAD_TIME_COLUMNS = {"Days Until Slot", "Pending Bookings"};
+    private static final String[] UTILIZATION_COLUMNS = {"Hospital", "Department", "Capacity", "Booked Students", "Utilization %"};
+
+    private final AnalyticsService analyticsService = new AnalyticsService();
+    private JComboBox<String> reportCombo;
+    private JComboBox<String> hospitalCombo;
+    private JButton rebuildButton;
+    private JLabel statusLabel;
+    private DefaultTableModel tableModel;
+    private boolean updatingHospitals;
+
+    public AnalyticsPanel() {
+        initializeComponents();
+        refreshData(false);
+    }
+
+    private void initializeComponents() {
+        setLayout(new BorderLayout(0, 10));
+        setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+
+        JPanel filterBar = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        reportCombo = new JComboBox<>(REPORTS);
+        reportCombo.addActionListener(e -> showReport());
+        hospitalCombo = new JComboBox<>(new String[] {ALL_HOSPITALS});
+        hospitalCombo.addActionListener(e -> {
+            if (!updatingHospitals) {
+                showReport();
+            }
+        });
+        rebuildButton = new JButton("Rebuild");
+        UIStyler.styleButton(rebuildButton);
+        rebuildButton.setToolTipText("Reload bookings and time slots and recompute all reports");
+        rebuildButton.addActionListener(e -> refreshData(true));
+
+        filterBar.add(new JLabel("Report:"));
+        filterBar.add(reportCombo);
+        filterBar.add(new JLabel("Hospital:"));
+        filterBar.add(hospitalCombo);
+        filterBar.add(rebuildButton);
+
+        JPanel header = new JPanel(new BorderLayout());
+        header.add(UIStyler.createStyledLabel("Analytics & Reports", UIStyler.TITLE_FONT, UIStyler.TEXT_COLOR), BorderLayout.NORTH);
+        header.add(filterBar, BorderLayout.CENTER);
+
+        tableModel = new DefaultTableModel() {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+
+            @Override
+            public Class<?> getColumnClass(int column) {
+                // Lets the row sorter compare counts and dates by value instead of as text
+                Object value = getRowCount() > 0 ? getValueAt(0, column) : null;
+                return value != null ? value.getClass() : Object.class;
+            }
+        };
+        JTable table = new JTable(tableModel);
+        table.setRowHeight(25);
+        table.setAutoCreateRowSorter(true);
+
+        statusLabel = UIStyler.createStyledLabel("Building reports...", new Font("Segoe UI", Font.ITALIC, 11), UIStyler.SECONDARY_COLOR);
+
+        add(header, BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(statusLabel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * Show the cached reports, building them first if needed or if {@code rebuild} is set
+     */
+    public void refreshData(boolean rebuild) {
+        rebuildButton.setEnabled(false);
+        if (rebuild || analyticsService.getCachedSnapshot() == null) {
+            statusLabel.setText("Building reports...");
+        }
+        analyticsService.getSnapshotAsync(rebuild).whenComplete((snapshot, error) -> SwingUtilities.invokeLater(() -> {
+            rebuildButton.setEnabled(true);
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                System.err.println("Error building analytics: " + cause.getMessage());
+                statusLabel.setText("Could not build reports: " + cause.getMessage());
+                return;
+            }
+            updateHospitalFilter(snapshot);
+            showReport();
+        }));
+    }
+
+    private void updateHospitalFilter(AnalyticsSnapshot snapshot) {
+        Object selected = hospitalCombo.getSelectedItem();
+        updatingHospitals = true;
+        try {
+            DefaultComboBoxModel<String> model = new DefaultComboBoxModel<>();
+            model.addElement(ALL_HOSPITALS);
+            snapshot.getHospitals().forEach(model::addElement);
+            model.setSelectedItem(model.getIndexOf(selected) >= 0 ? selected : ALL_HOSPITALS);
+            hospitalCombo.setModel(model);
+        } finally {
+            updatingHospitals = false;
+        }
+    }
+
+    /**
+     * Slice the cached snapshot for the selected report and hospital
+     */
+    private void showReport() {
+        AnalyticsSnapshot snapshot = analyticsService.getCachedSnapshot();
+        if (snapshot == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        String report = (String) reportCombo.getSelectedItem();
+        String hospital = ALL_HOSPITALS.equals(hospitalCombo.getSelectedItem()) ? null : (String) hospitalCombo.getSelectedItem();
+
+        switch (report) {
+            case BY_HOSPITAL:
+                tableModel.setDataVector(snapshot.bookingsBy(AnalyticsSnapshot.Dimension.HOSPITAL, hospital),
+                        withGroupColumn(AnalyticsSnapshot.Dimension.HOSPITAL));
+                break;
+            case BY_DEPARTMENT:
+                tableModel.setDataVector(snapshot.bookingsBy(AnalyticsSnapshot.Dimension.DEPARTMENT, hospital),
+                        withGroupColumn(AnalyticsSnapshot.Dimension.DEPARTMENT));
+                break;
+            case BY_WEEK:
+                tableModel.setDataVector(snapshot.bookingsBy(AnalyticsSnapshot.Dimension.WEEK, hospital),
+                        withGroupColumn(AnalyticsSnapshot.Dimension.WEEK));
+                break;
+            case LEAD_TIMES:
+                tableModel.setDataVector(snapshot.pendingLeadTimes(hospital), LEAD_TIME_COLUMNS);
+                break;
+            default:
+                tableModel.setDataVector(snapshot.capacityUtilization(hospital), UTILIZATION_COLUMNS);
+                break;
+        }
+
+        double sliceMillis = (System.nanoTime() - started) / 1_000_000.0;
+        statusLabel.setText(String.format("Built at %s in %d ms; report computed in %.1f ms",
+                snapshot.getBuiltAt().format(BUILT_FORMAT), snapshot.getBuildMillis(), sliceMillis));
+    }
+
+    private static String[] withGroupColumn(AnalyticsSnapshot.Dimension dimension) {
+        String[] columns = new String[BOOKING_COLUMNS.length + 1];
+        columns[0] = dimension.getLabel();
+        System.arraycopy(BOOKING_COLUMNS, 0, columns, 1, BOOKING_COLUMNS.length);
+        return columns;
+    }
+}
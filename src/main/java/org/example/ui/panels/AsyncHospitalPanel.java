@@ -1,11 +1,11 @@
 package org.example.ui.panels;
 
 import org.example.services.HospitalService;
+import org.example.ui.models.ArrayTableModel;
 import org.example.utils.DatabaseWorker;
 import org.example.utils.UIStyler;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -16,7 +16,7 @@ import java.awt.event.ActionListener;
  */
 public class AsyncHospitalPanel extends JPanel {
     private JTable hospitalTable;
-    private DefaultTableModel tableModel;
+    private ArrayTableModel tableModel;
     private JButton loadDataButton;
     private JButton addHospitalButton;
     private JProgressBar progressBar;
@@ -36,12 +36,8 @@ public class AsyncHospitalPanel extends JPanel {
     private void initializeComponents() {
         // Create table with column headers
         String[] columnNames = {"ID", "Name", "Address", "Contact", "Description", "Actions"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 5; // Only Actions column is editable
-            }
-        };
+        tableModel = new ArrayTableModel(columnNames);
+        tableModel.setEditableColumns(5); // Only Actions column is editable
 
         hospitalTable = new JTable(tableModel);
         hospitalTable.setFont(UIStyler.MAIN_FONT);
@@ -258,16 +254,8 @@ public class AsyncHospitalPanel extends JPanel {
     }
 
     private void updateTableData(Object[][] data) {
-        // Clear existing data
-        tableModel.setRowCount(0);
-
-        // Add new data
-        for (Object[] row : data) {
-            tableModel.addRow(row);
-        }
-
-        // Refresh table
-        tableModel.fireTableDataChanged();
+        // Hand the result array to the model; one event refreshes the table
+        tableModel.setData(data);
     }
 
     private void updateStatus(String message) {
@@ -1,22 +1,40 @@
 package org.example.ui.panels;
 
 
+import org.example.models.BookingRow;
 import org.example.services.BookingServices;
+import org.example.ui.models.KeysetPagedTableModel;
+import org.example.ui.models.RowTableModel;
+import org.example.utils.DatabaseExecutor;
+import org.example.utils.DatabaseWorker;
 import org.example.utils.UIStyler;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 public class BookingOverviewPanel extends JPanel {
-    private DefaultTableModel bookingModel;
+    // Bookings are fetched PAGE_SIZE at a time; at most MAX_RESIDENT_PAGES pages stay in memory
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_RESIDENT_PAGES = 10;
+    // Start loading the next page when the viewport is this many rows from the bottom
+    private static final int PREFETCH_ROWS = 20;
+    private static final String APPROVED_STATUS = "Approved";
+
+    private KeysetPagedTableModel<BookingRow> bookingModel;
     private BookingServices bookingServices  = new BookingServices();;
     private JTable table;
+    private JButton approveButton;
 
     public BookingOverviewPanel() {
+        // Build the UI with an empty table, then load bookings in the background
         initializeComponents();
-
-
+        refreshData();
     }
 
     private void initializeComponents() {
@@ -25,23 +43,31 @@ public class BookingOverviewPanel extends JPanel {
 
         JPanel contentPanel = new JPanel(new BorderLayout());
 
-        String[] columns = {"Booking ID", "School", "Hospital", "Department", "Date", "Time", "Students", "Status"};
-        Object[][] data = bookingServices.fetchBookingOverview();
-        if (data == null || data.length == 0) {
-            data = new Object[][] {{"-", "No data available", "-", "-", "-", "-", "-", "-"}};
-        }
-
-        bookingModel = new DefaultTableModel(data, columns) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-
-        table = UIStyler.createStyledTable(data, columns);
+        bookingModel = new KeysetPagedTableModel<>(
+                bookingServices::fetchBookingPage, BookingRow::getBookingId, 0, PAGE_SIZE, MAX_RESIDENT_PAGES,
+                new RowTableModel.Column<>("Booking ID", Integer.class, BookingRow::getBookingId),
+                new RowTableModel.Column<>("School", String.class, BookingRow::getSchoolName),
+                new RowTableModel.Column<>("Hospital", String.class, BookingRow::getHospitalName),
+                new RowTableModel.Column<>("Department", String.class, BookingRow::getDepartment),
+                new RowTableModel.Column<>("Date", LocalDate.class, BookingRow::getSlotDate),
+                new RowTableModel.Column<>("Time", String.class, BookingRow::getTimeRange),
+                new RowTableModel.Column<>("Students", Integer.class, BookingRow::getStudentCount),
+                new RowTableModel.Column<>("Status", String.class, BookingRow::getStatus));
+
+        table = UIStyler.createStyledTable(new Object[0][0], bookingModel.getColumnNames());
         table.setModel(bookingModel);
+        table.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         JScrollPane scrollPane = new JScrollPane(table);
 
+        // Infinite scroll: fetch the next page as the user nears the end of what is loaded
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            JScrollBar bar = (JScrollBar) e.getAdjustable();
+            int remaining = bar.getMaximum() - (bar.getValue() + bar.getVisibleAmount());
+            if (remaining <= PREFETCH_ROWS * table.getRowHeight()) {
+                bookingModel.loadNextPage();
+            }
+        });
+
         // Add title label
         JLabel titleLabel = UIStyler.createStyledLabel("Booking Overview", UIStyler.TITLE_FONT, UIStyler.TEXT_COLOR);
         contentPanel.add(titleLabel, BorderLayout.NORTH);
@@ -54,7 +80,7 @@ public class BookingOverviewPanel extends JPanel {
         JButton viewStudentsButton = new JButton("View Students");
         viewStudentsButton.addActionListener(e -> viewStudentsForBooking());
 
-        JButton approveButton = new JButton("Approve Booking");
+        approveButton = new JButton("Approve Selected");
         approveButton.addActionListener(e -> approveSelectedBooking());
 
         buttonPanel.add(viewStudentsButton);
@@ -66,81 +92,86 @@ public class BookingOverviewPanel extends JPanel {
     }
 
 
+    /**
+     * Re-query the loaded pages and apply only what changed, keeping selection and scroll position
+     */
     public void refreshData() {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                bookingModel.setRowCount(0);
-                Object[][] refreshedData = bookingServices.fetchBookingOverview();
-                if (refreshedData == null || refreshedData.length == 0) {
-                    bookingModel.addRow(new Object[]{
-                            "-", "No data available", "-", "-", "-", "-", "-", "-"
-                    });
-                }
-
-                for (Object[] row : refreshedData) {
-                    bookingModel.addRow(row);
-                }
-
-                table.revalidate();
-                table.repaint();
-                System.out.println("Booking overview data refreshed successfully");
-            } catch (Exception e) {
-                System.err.println("Error refreshing booking data: " + e.getMessage());
-                e.printStackTrace();
-            }
-        });
+        bookingModel.refreshLoadedPages();
+        System.out.println("Booking overview refreshing loaded pages");
     }
+
+    /**
+     * Approve every selected booking with one batched call off the EDT,
+     * then update only the affected rows in place
+     */
     public void approveSelectedBooking() {
-        int selectedRow = table.getSelectedRow();
+        int[] selectedRows = table.getSelectedRows();
 
-        if (selectedRow == -1) {
+        if (selectedRows.length == 0) {
             JOptionPane.showMessageDialog(this,
-                    "Please select a booking to approve.",
+                    "Please select one or more bookings to approve.",
                     "No Selection",
                     JOptionPane.WARNING_MESSAGE);
             return;
         }
 
-        // Get the Booking ID from the table (first column)
-        Object bookingIdObj = bookingModel.getValueAt(selectedRow, 0);
-
-        if (bookingIdObj == null || "-".equals(bookingIdObj.toString())) {
+        List<Integer> bookingIds = new ArrayList<>(selectedRows.length);
+        boolean unresolved = false;
+        for (int viewRow : selectedRows) {
+            BookingRow booking = bookingModel.getRow(table.convertRowIndexToModel(viewRow));
+            // Rows of an evicted page cannot be identified until it reloads; getRow has started that
+            if (booking != null) {
+                bookingIds.add(booking.getBookingId());
+            } else {
+                unresolved = true;
+            }
+        }
+        // Approving only the resolved part would silently drop bookings the user selected
+        if (unresolved) {
             JOptionPane.showMessageDialog(this,
-                    "Invalid booking selected.",
-                    "Error",
-                    JOptionPane.ERROR_MESSAGE);
+                    "The selected bookings are still loading, please try again.",
+                    "Loading",
+                    JOptionPane.INFORMATION_MESSAGE);
             return;
         }
 
-        int bookingId = Integer.parseInt(bookingIdObj.toString());
-
         int confirm = JOptionPane.showConfirmDialog(this,
-                "Are you sure you want to approve booking ID " + bookingId + "?",
+                bookingIds.size() == 1
+                        ? "Are you sure you want to approve booking ID " + bookingIds.get(0) + "?"
+                        : "Are you sure you want to approve " + bookingIds.size() + " bookings?",
                 "Confirm Approval",
                 JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            try {
-                boolean success = bookingServices.approveBooking(bookingId); // <-- Call your service
-                if (success) {
-                    JOptionPane.showMessageDialog(this,
-                            "Booking approved successfully!",
-                            "Success",
-                            JOptionPane.INFORMATION_MESSAGE);
-                    refreshData(); // reload updated bookings
-                } else {
-                    JOptionPane.showMessageDialog(this,
-                            "Failed to approve booking.",
-                            "Error",
-                            JOptionPane.ERROR_MESSAGE);
-                }
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this,
-                        "Error approving booking: " + e.getMessage(),
-                        "Error",
-                        JOptionPane.ERROR_MESSAGE);
-                e.printStackTrace();
-            }
+            // Approvals go in the interactive lane, ahead of any queued refreshes
+            DatabaseWorker.execute(
+                    DatabaseExecutor.Priority.INTERACTIVE,
+                    () -> bookingServices.approveBookings(bookingIds),
+                    result -> {
+                        Set<Integer> approvedIds = new HashSet<>(result.getSucceeded());
+                        bookingModel.updateRows(booking -> approvedIds.contains(booking.getBookingId()),
+                                booking -> booking.withStatus(APPROVED_STATUS));
+                        JOptionPane.showMessageDialog(this,
+                                result.getSummary("approval(s)", 10),
+                                result.isAllSucceeded() ? "Success" : "Some Approvals Failed",
+                                result.isAllSucceeded() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+                    },
+                    e -> {
+                        JOptionPane.showMessageDialog(this,
+                                "Error approving bookings: " + e.getMessage(),
+                                "Error",
+                                JOptionPane.ERROR_MESSAGE);
+                        e.printStackTrace();
+                    },
+                    () -> {
+                        approveButton.setEnabled(false);
+                        approveButton.setText("Approving...");
+                    },
+                    () -> {
+                        approveButton.setEnabled(true);
+                        approveButton.setText("Approve Selected");
+                    }
+            );
         }
     }
     public void viewStudentsForBooking() {
@@ -154,26 +185,15 @@ public class BookingOverviewPanel extends JPanel {
             return;
         }
 
-        Object bookingIdObj = bookingModel.getValueAt(selectedRow, 0);
-
-        if (bookingIdObj == null || "-".equals(bookingIdObj.toString())) {
+        BookingRow booking = bookingModel.getRow(table.convertRowIndexToModel(selectedRow));
+        if (booking == null) {
             JOptionPane.showMessageDialog(this,
-                    "Invalid booking selected.",
-                    "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            return;
-        }
-
-        int bookingId;
-        try {
-            bookingId = Integer.parseInt(bookingIdObj.toString());
-        } catch (NumberFormatException ex) {
-            JOptionPane.showMessageDialog(this,
-                    "Booking ID is not valid.",
-                    "Error",
-                    JOptionPane.ERROR_MESSAGE);
+                    "This booking is still loading, please try again.",
+                    "Loading",
+                    JOptionPane.INFORMATION_MESSAGE);
             return;
         }
+        int bookingId = booking.getBookingId();
 
         // Fetch students for the booking using HospitalService
         Object[][] students = bookingServices.fetchStudentsByBooking(bookingId);
@@ -1,26 +1,43 @@
 package org.example.ui.panels;
 
+import org.example.AdminPanel;
+import org.example.models.DashboardCounts;
+import org.example.services.DashboardService;
 import org.example.utils.UIStyler;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.time.format.DateTimeFormatter;
 
 /**
- * Main dashboard panel with summary cards and quick actions
+ * Main dashboard panel with summary cards and quick actions.
+ * Counts are shown from the dashboard service's cache and refreshed in the background on a fixed schedule,
+ * so showing the dashboard never waits on the database.
  */
-public class DashboardPanel extends JPanel {
+public class DashboardPanel extends JPanel implements AdminPanel.Cleanupable {
+    private static final int AUTO_REFRESH_MILLIS = 60_000;
+    private static final String COUNT_PLACEHOLDER = "…";
+    private static final DateTimeFormatter UPDATED_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
     private final JTabbedPane parentTabbedPane;
+    private final DashboardService dashboardService = new DashboardService();
+    private final Timer autoRefreshTimer;
     private JLabel pendingUsersCount;
     private JLabel pendingSchoolsCount;
     private JLabel totalHospitalsCount;
     private JLabel totalBookingsCount;
+    private JButton reviewUsersButton;
+    private JButton reviewSchoolsButton;
+    private JLabel lastUpdatedLabel;
 
     public DashboardPanel(JTabbedPane parentTabbedPane) {
         this.parentTabbedPane = parentTabbedPane;
         initializeComponents();
 
+        autoRefreshTimer = new Timer(AUTO_REFRESH_MILLIS, e -> refreshData());
+        autoRefreshTimer.start();
     }
 
     private void initializeComponents() {
@@ -33,11 +50,11 @@ public class DashboardPanel extends JPanel {
         JPanel summaryPanel = new JPanel(new GridLayout(2, 3, 15, 15));
         summaryPanel.setBackground(UIStyler.BACKGROUND_COLOR);
 
-        summaryPanel.add(createSummaryCard("User Management", "12", "Approve or reject user registrations", "Tap to open", 1, true));
-        summaryPanel.add(createSummaryCard("School Management", "8", "Manage school registrations and students", "Tap to open", 2, true));
-        summaryPanel.add(createSummaryCard("Hospital Management", "15", "Add and manage hospitals & departments", "Tap to open", 3, true));
-        summaryPanel.add(createSummaryCard("Booking Overview", "142", "View all hospital training bookings", "Tap to open", 4, true));
-        summaryPanel.add(createSummaryCard("Analytics & Reports", "", "View system statistics and reports", "Tap to open", -1, false));
+        summaryPanel.add(createSummaryCard("User Management", COUNT_PLACEHOLDER, "Approve or reject user registrations", "Tap to open", 1, true));
+        summaryPanel.add(createSummaryCard("School Management", COUNT_PLACEHOLDER, "Manage school registrations and students", "Tap to open", 2, true));
+        summaryPanel.add(createSummaryCard("Hospital Management", COUNT_PLACEHOLDER, "Add and manage hospitals & departments", "Tap to open", 3, true));
+        summaryPanel.add(createSummaryCard("Booking Overview", COUNT_PLACEHOLDER, "View all hospital training bookings", "Tap to open", 4, true));
+        summaryPanel.add(createSummaryCard("Analytics & Reports", "", "View system statistics and reports", "Tap to open", 5, false));
         summaryPanel.add(createSummaryCard("System Settings", "", "Configure system preferences", "Tap to open", -1, false));
 
         // Quick Actions
@@ -116,10 +133,10 @@ public class DashboardPanel extends JPanel {
         JPanel actionButtonsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         actionButtonsPanel.setBackground(UIStyler.BACKGROUND_COLOR);
 
-        JButton reviewUsersButton = new JButton("Review Pending Users (12)");
+        reviewUsersButton = new JButton("Review Pending Users");
         UIStyler.styleButton(reviewUsersButton);
 
-        JButton reviewSchoolsButton = new JButton("Review Pending Schools (8)");
+        reviewSchoolsButton = new JButton("Review Pending Schools");
         UIStyler.styleButton(reviewSchoolsButton);
 
         actionButtonsPanel.add(reviewUsersButton);
@@ -133,38 +150,53 @@ public class DashboardPanel extends JPanel {
         quickActionsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         quickActionsPanel.add(actionButtonsPanel);
 
+        lastUpdatedLabel = UIStyler.createStyledLabel(" ", new Font("Segoe UI", Font.ITALIC, 11), UIStyler.SECONDARY_COLOR);
+        lastUpdatedLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        quickActionsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        quickActionsPanel.add(lastUpdatedLabel);
+
         return quickActionsPanel;
     }
 
     /**
-     * Refresh the dashboard data including counts and quick action buttons
+     * Refresh the dashboard counts and quick action buttons.
+     * Cached counts are shown immediately; a single background query runs only once they are older than the TTL.
      */
     public void refreshData() {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                // Update counts (in a real application, these would be fetched from database)
-                if (pendingUsersCount != null) {
-                    pendingUsersCount.setText("12");
-                }
-                if (pendingSchoolsCount != null) {
-                    pendingSchoolsCount.setText("8");
-                }
-                if (totalHospitalsCount != null) {
-                    totalHospitalsCount.setText("15");
-                }
-                if (totalBookingsCount != null) {
-                    totalBookingsCount.setText("142");
-                }
-
-                // Refresh the display
-                revalidate();
-                repaint();
+        DashboardCounts cached = dashboardService.getCachedCounts();
+        if (cached != null) {
+            applyCounts(cached);
+        }
+        if (dashboardService.isCacheFresh()) {
+            return;
+        }
 
-                System.out.println("Dashboard data refreshed successfully");
-            } catch (Exception e) {
-                System.err.println("Error refreshing dashboard data: " + e.getMessage());
-                e.printStackTrace();
+        dashboardService.getCountsAsync().whenComplete((counts, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                System.err.println("Error refreshing dashboard data: " + cause.getMessage());
+                lastUpdatedLabel.setText(cached != null
+                        ? "Could not refresh; showing counts from " + cached.getFetchedAt().format(UPDATED_FORMAT)
+                        : "Could not load counts: " + cause.getMessage());
+                return;
             }
-        });
+            applyCounts(counts);
+            System.out.println("Dashboard data refreshed successfully");
+        }));
+    }
+
+    private void applyCounts(DashboardCounts counts) {
+        pendingUsersCount.setText(String.valueOf(counts.getPendingUsers()));
+        pendingSchoolsCount.setText(String.valueOf(counts.getPendingSchools()));
+        totalHospitalsCount.setText(String.valueOf(counts.getTotalHospitals()));
+        totalBookingsCount.setText(String.valueOf(counts.getTotalBookings()));
+        reviewUsersButton.setText("Review Pending Users (" + counts.getPendingUsers() + ")");
+        reviewSchoolsButton.setText("Review Pending Schools (" + counts.getPendingSchools() + ")");
+        lastUpdatedLabel.setText("Updated " + counts.getFetchedAt().format(UPDATED_FORMAT));
+    }
+
+    @Override
+    public void cleanup() {
+        autoRefreshTimer.stop();
     }
 }
@@ -4,7 +4,13 @@ import org.example.services.HospitalService;
 import org.example.models.HospitalItem;
 import org.example.models.DepartmentItem;
 import org.example.models.SlotDateItem;
+import org.example.models.TimeSlotRow;
+import org.example.ui.dialogs.CsvImportDialog;
 import org.example.ui.dialogs.DepartmentDrillDownDialog;
+import org.example.ui.dialogs.TimeSlotGeneratorDialog;
+import org.example.ui.models.RowTableModel;
+import org.example.ui.renderers.UtilizationRenderer;
+import org.example.utils.DatabaseExecutor;
 import org.example.utils.UIStyler;
 
 import javax.swing.*;
@@ -12,12 +18,24 @@ import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
  * Panel for managing hospitals, departments, dates, and time slots
  */
 public class HospitalManagementPanel extends JPanel  {
+    private static final String[] HOSPITAL_COLUMNS = {"ID", "Hospital Name", "Address", "Contact", "Description", "Actions"};
+    private static final String[] DEPARTMENT_COLUMNS = {"ID", "Hospital", "Department Name", "Price per Student", "Actions"};
+    private static final String[] DATE_COLUMNS = {"ID", "Hospital", "Department", "Available Date", "Actions"};
+    private static final int PLACEHOLDER_ROWS = 5;
+    private static final String PLACEHOLDER_TEXT = "Loading...";
+
     private final JFrame parentFrame;
     private final HospitalService hospitalService;
     private final DepartmentDrillDownDialog drillDownDialog;
@@ -26,20 +44,23 @@ public class HospitalManagementPanel extends JPanel  {
     private DefaultTableModel hospitalModel;
     private DefaultTableModel departmentModel;
     private DefaultTableModel dateModel;
-    private DefaultTableModel timeSlotModel;
+    private RowTableModel<TimeSlotRow> timeSlotModel;
 
     // Combo box references for refresh functionality
     private JComboBox<HospitalItem> hospitalCombo;
     private JComboBox<DepartmentItem> departmentCombo;
     private JComboBox<SlotDateItem> slotDateCombo;
 
+    private volatile boolean isRefreshing = false;
+
     public HospitalManagementPanel(JFrame parentFrame) {
         this.parentFrame = parentFrame;
         this.hospitalService = new HospitalService();
         this.drillDownDialog = new DepartmentDrillDownDialog(parentFrame, hospitalService);
 
+        // Build the UI with placeholder rows, then load everything in the background
         initializeComponents();
-
+        refreshData();
     }
 
     private void initializeComponents() {
@@ -54,6 +75,14 @@ public class HospitalManagementPanel extends JPanel  {
         hospitalTabs.addTab("Available Dates", createAvailableDatesPanel());
         hospitalTabs.addTab("Time Slots", createTimeSlotsPanel());
 
+        JPanel toolBar = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton importCsvBtn = new JButton("Import CSV...");
+        UIStyler.styleButton(importCsvBtn);
+        importCsvBtn.setToolTipText("Import hospitals, departments and time slots from a CSV file");
+        importCsvBtn.addActionListener(e -> new CsvImportDialog(parentFrame, this::refreshData).setVisible(true));
+        toolBar.add(importCsvBtn);
+
+        add(toolBar, BorderLayout.NORTH);
         add(hospitalTabs, BorderLayout.CENTER);
     }
 
@@ -65,8 +94,8 @@ public class HospitalManagementPanel extends JPanel  {
         JPanel addHospitalPanel = createAddHospitalForm();
 
         // Hospital List Table
-        Object[][] hospitalData = hospitalService.fetchHospitals();
-        String[] hospitalColumns = {"ID", "Hospital Name", "Address", "Contact", "Description", "Actions"};
+        Object[][] hospitalData = createPlaceholderRows(HOSPITAL_COLUMNS.length);
+        String[] hospitalColumns = HOSPITAL_COLUMNS;
 
         hospitalModel = new DefaultTableModel(hospitalData, hospitalColumns) {
             @Override
@@ -167,8 +196,8 @@ public class HospitalManagementPanel extends JPanel  {
         JPanel addDeptPanel = createAddDepartmentForm();
 
         // Department List Table
-        Object[][] deptData = hospitalService.fetchDepartments();
-        String[] deptColumns = {"ID", "Hospital", "Department Name", "Price per Student", "Actions"};
+        Object[][] deptData = createPlaceholderRows(DEPARTMENT_COLUMNS.length);
+        String[] deptColumns = DEPARTMENT_COLUMNS;
 
         departmentModel = new DefaultTableModel(deptData, deptColumns) {
             @Override
@@ -186,8 +215,10 @@ public class HospitalManagementPanel extends JPanel  {
             public void mouseClicked(MouseEvent e) {
                 if (e.getClickCount() == 2 && deptTable.getSelectedRow() != -1) {
                     int row = deptTable.getSelectedRow();
-                    int departmentId = (Integer) deptTable.getValueAt(row, 0);
-                    showSchoolsByDepartment(departmentId);
+                    Object departmentId = deptTable.getValueAt(row, 0);
+                    if (departmentId instanceof Integer) {
+                        showSchoolsByDepartment((Integer) departmentId);
+                    }
                 }
             }
         });
@@ -225,7 +256,6 @@ public class HospitalManagementPanel extends JPanel  {
         formPanel.add(new JLabel("Hospital:"), gbc);
         gbc.gridx = 1; gbc.fill = GridBagConstraints.HORIZONTAL; gbc.weightx = 1.0;
         hospitalCombo = new JComboBox<>();
-        hospitalService.loadHospitalsCombo(hospitalCombo);
         formPanel.add(hospitalCombo, gbc);
 
         // Department Name
@@ -283,8 +313,8 @@ public class HospitalManagementPanel extends JPanel  {
         JPanel addDatePanel = createAddDateForm();
 
         // Dates List Table
-        Object[][] dateData = hospitalService.fetchAvailableDates();
-        String[] dateColumns = {"ID", "Hospital", "Department", "Available Date", "Actions"};
+        Object[][] dateData = createPlaceholderRows(DATE_COLUMNS.length);
+        String[] dateColumns = DATE_COLUMNS;
 
         dateModel = new DefaultTableModel(dateData, dateColumns) {
             @Override
@@ -319,7 +349,6 @@ public class HospitalManagementPanel extends JPanel  {
         formPanel.add(new JLabel("Department:"), gbc);
         gbc.gridx = 1; gbc.fill = GridBagConstraints.HORIZONTAL; gbc.weightx = 1.0;
         departmentCombo = new JComboBox<>();
-        hospitalService.loadDepartmentsCombo(departmentCombo);
         formPanel.add(departmentCombo, gbc);
 
         // Available Date
@@ -362,19 +391,23 @@ public class HospitalManagementPanel extends JPanel  {
         // Add Time Slot Form
         JPanel addTimeSlotPanel = createAddTimeSlotForm();
 
-        // Time Slots List Table
-        Object[][] timeSlotData = hospitalService.fetchTimeSlots();
-        String[] timeSlotColumns = {"ID", "Hospital", "Department", "Date", "Start Time", "End Time", "Capacity", "Actions"};
-
-        timeSlotModel = new DefaultTableModel(timeSlotData, timeSlotColumns) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 7; // Only Actions column is editable
-            }
-        };
-
-        JTable timeSlotTable = UIStyler.createStyledTable(timeSlotData, timeSlotColumns);
+        // Time Slots List Table, rendered straight from the typed rows
+        timeSlotModel = new RowTableModel<>(
+            new RowTableModel.Column<>("ID", Integer.class, TimeSlotRow::getTimeSlotId),
+            new RowTableModel.Column<>("Hospital", String.class, TimeSlotRow::getHospitalName),
+            new RowTableModel.Column<>("Department", String.class, TimeSlotRow::getSectionName),
+            new RowTableModel.Column<>("Date", LocalDate.class, TimeSlotRow::getSlotDate),
+            new RowTableModel.Column<>("Start Time", LocalTime.class, TimeSlotRow::getStartTime),
+            new RowTableModel.Column<>("End Time", LocalTime.class, TimeSlotRow::getEndTime),
+            new RowTableModel.Column<>("Capacity", Integer.class, TimeSlotRow::getCapacity),
+            new RowTableModel.Column<>("Booked", Integer.class, TimeSlotRow::getBookedCount),
+            new RowTableModel.Column<>("Utilization", Double.class, TimeSlotRow::getUtilizationPercent),
+            new RowTableModel.Column<>("Actions", String.class, slot -> "Actions", true));
+
+        JTable timeSlotTable = UIStyler.createStyledTable(new Object[0][0], timeSlotModel.getColumnNames());
         timeSlotTable.setModel(timeSlotModel);
+        timeSlotTable.setAutoCreateRowSorter(true);
+        timeSlotTable.getColumn("Utilization").setCellRenderer(new UtilizationRenderer());
 
         // Add mouse listener to show students when clicking on a timeslot row
         timeSlotTable.addMouseListener(new MouseAdapter() {
@@ -382,23 +415,13 @@ public class HospitalManagementPanel extends JPanel  {
             public void mouseClicked(MouseEvent e) {
                 int row = timeSlotTable.getSelectedRow();
                 if (row != -1) {
-                    // Get the timeslot ID from the first column
-                    Object timeSlotIdObj = timeSlotTable.getValueAt(row, 0);
-                    if (timeSlotIdObj != null) {
-                        try {
-                            int timeSlotId = Integer.parseInt(timeSlotIdObj.toString());
-
-                            // Single click shows info tooltip, double click opens dialog
-                            if (e.getClickCount() == 1) {
-                                showTimeslotTooltip(timeSlotTable, e, timeSlotId);
-                            } else if (e.getClickCount() == 2) {
-                                showTimeslotStudents(timeSlotId);
-                            }
-                        } catch (NumberFormatException ex) {
-                            JOptionPane.showMessageDialog(parentFrame,
-                                "Invalid timeslot ID: " + timeSlotIdObj,
-                                "Error", JOptionPane.ERROR_MESSAGE);
-                        }
+                    TimeSlotRow timeSlot = timeSlotModel.getRow(timeSlotTable.convertRowIndexToModel(row));
+
+                    // Single click shows info tooltip, double click opens dialog
+                    if (e.getClickCount() == 1) {
+                        showTimeslotTooltip(timeSlotTable, timeSlot);
+                    } else if (e.getClickCount() == 2) {
+                        showTimeslotStudents(timeSlot.getTimeSlotId());
                     }
                 }
             }
@@ -437,7 +460,6 @@ public class HospitalManagementPanel extends JPanel  {
         formPanel.add(new JLabel("Available Date:"), gbc);
         gbc.gridx = 1; gbc.fill = GridBagConstraints.HORIZONTAL; gbc.weightx = 1.0;
         slotDateCombo = new JComboBox<>();
-        hospitalService.loadSlotDatesCombo(slotDateCombo);
         formPanel.add(slotDateCombo, gbc);
 
         // Start Time
@@ -472,6 +494,15 @@ public class HospitalManagementPanel extends JPanel  {
         UIStyler.styleButton(addTimeSlotBtn);
         formPanel.add(addTimeSlotBtn, gbc);
 
+        // Generate Button: a whole date range of slots in one transaction, then one refresh
+        gbc.gridx = 0; gbc.anchor = GridBagConstraints.WEST;
+        JButton generateSlotsBtn = new JButton("Generate Slots...");
+        UIStyler.styleButton(generateSlotsBtn);
+        generateSlotsBtn.setToolTipText("Create time slots for a department over a date range");
+        formPanel.add(generateSlotsBtn, gbc);
+
+        generateSlotsBtn.addActionListener(e -> showTimeSlotGenerator());
+
         addTimeSlotBtn.addActionListener(e -> {
             SlotDateItem selectedSlotDate = (SlotDateItem) slotDateCombo.getSelectedItem();
             String startTime = startTimeField.getText().trim();
@@ -498,8 +529,8 @@ public class HospitalManagementPanel extends JPanel  {
                 addTimeSlotBtn.setEnabled(false);
                 addTimeSlotBtn.setText("Adding...");
 
-                // Use threaded operation to prevent UI freezing
-                Thread thread = new Thread(() -> {
+                // Run on the shared database executor to prevent UI freezing
+                DatabaseExecutor.execute(DatabaseExecutor.Priority.INTERACTIVE, () -> {
                     boolean success = hospitalService.addTimeSlot(selectedSlotDate.getId(), startTime, endTime, capacity);
 
                     // Update UI on EDT
@@ -524,7 +555,6 @@ public class HospitalManagementPanel extends JPanel  {
                         }
                     });
                 });
-                thread.start();
 
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(parentFrame,
@@ -539,29 +569,39 @@ public class HospitalManagementPanel extends JPanel  {
     }
 
     /**
-     * Show a tooltip with basic timeslot information
+     * Open the bulk time slot generator with the departments already loaded in the date form
      */
-    private void showTimeslotTooltip(JTable table, MouseEvent e, int timeSlotId) {
-        // Create a simple popup with timeslot info
-        Point point = e.getPoint();
-        int row = table.getSelectedRow();
-
-        String hospital = table.getValueAt(row, 1).toString();
-        String department = table.getValueAt(row, 2).toString();
-        String date = table.getValueAt(row, 3).toString();
-        String startTime = table.getValueAt(row, 4).toString();
-        String endTime = table.getValueAt(row, 5).toString();
-        String capacity = table.getValueAt(row, 6).toString();
+    private void showTimeSlotGenerator() {
+        List<DepartmentItem> departments = new ArrayList<>();
+        ComboBoxModel<DepartmentItem> model = departmentCombo.getModel();
+        for (int i = 0; i < model.getSize(); i++) {
+            departments.add(model.getElementAt(i));
+        }
+        if (departments.isEmpty()) {
+            JOptionPane.showMessageDialog(parentFrame,
+                "No departments loaded yet. Please add a department first.",
+                "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        new TimeSlotGeneratorDialog(parentFrame, departments, this::refreshData).setVisible(true);
+    }
 
+    /**
+     * Show a tooltip with basic timeslot information
+     */
+    private void showTimeslotTooltip(JTable table, TimeSlotRow timeSlot) {
         String tooltip = String.format(
             "<html><b>Timeslot %d</b><br/>" +
             "Hospital: %s<br/>" +
             "Department: %s<br/>" +
             "Date: %s<br/>" +
             "Time: %s - %s<br/>" +
-            "Capacity: %s<br/>" +
+            "Capacity: %d<br/>" +
+            "Booked: %s<br/>" +
             "<i>Double-click to view booked students</i></html>",
-            timeSlotId, hospital, department, date, startTime, endTime, capacity
+            timeSlot.getTimeSlotId(), timeSlot.getHospitalName(), timeSlot.getSectionName(),
+            timeSlot.getSlotDate(), timeSlot.getStartTime(), timeSlot.getEndTime(), timeSlot.getCapacity(),
+            timeSlot.getBookedCount() != null ? timeSlot.getBookedCount() : "-"
         );
 
         table.setToolTipText(tooltip);
@@ -584,63 +624,68 @@ public class HospitalManagementPanel extends JPanel  {
 
     /**
      * Refresh all data in the Hospital Management Panel
-     * This includes all tables (hospitals, departments, dates, time slots) and combo boxes
+     * This includes all tables (hospitals, departments, dates, time slots) and combo boxes.
+     * The seven queries run in parallel off the EDT and are applied to the UI in a single update.
      */
     public void refreshData() {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                // Refresh hospital table
-                if (hospitalModel != null) {
-                    Object[][] hospitalData = hospitalService.fetchHospitals();
-                    hospitalModel.setDataVector(hospitalData, new String[]{"ID", "Hospital Name", "Address", "Contact", "Description", "Actions"});
-                    hospitalModel.fireTableDataChanged();
-                }
-
-                // Refresh department table
-                if (departmentModel != null) {
-                    Object[][] deptData = hospitalService.fetchDepartments();
-                    departmentModel.setDataVector(deptData, new String[]{"ID", "Hospital", "Department Name", "Price per Student", "Actions"});
-                    departmentModel.fireTableDataChanged();
-                }
-
-                // Refresh available dates table
-                if (dateModel != null) {
-                    Object[][] dateData = hospitalService.fetchAvailableDates();
-                    dateModel.setDataVector(dateData, new String[]{"ID", "Hospital", "Department", "Available Date", "Actions"});
-                    dateModel.fireTableDataChanged();
-                }
-
-                // Refresh time slots table
-                if (timeSlotModel != null) {
-                    Object[][] timeSlotData = hospitalService.fetchTimeSlots();
-                    timeSlotModel.setDataVector(timeSlotData, new String[]{"ID", "Hospital", "Department", "Date", "Start Time", "End Time", "Capacity", "Actions"});
-                    timeSlotModel.fireTableDataChanged();
-                }
+        if (isRefreshing) {
+            System.out.println("Hospital Management Panel refresh already in progress");
+            return;
+        }
+        isRefreshing = true;
+
+        CompletableFuture<Object[][]> hospitals = DatabaseExecutor.supplyAsync(hospitalService::fetchHospitals);
+        CompletableFuture<Object[][]> departments = DatabaseExecutor.supplyAsync(hospitalService::fetchDepartments);
+        CompletableFuture<Object[][]> dates = DatabaseExecutor.supplyAsync(hospitalService::fetchAvailableDates);
+        CompletableFuture<List<TimeSlotRow>> timeSlots = DatabaseExecutor.supplyAsync(hospitalService::fetchTimeSlotsWithBookedCounts);
+        CompletableFuture<List<HospitalItem>> hospitalItems = DatabaseExecutor.supplyAsync(hospitalService::fetchHospitalItems);
+        CompletableFuture<List<DepartmentItem>> departmentItems = DatabaseExecutor.supplyAsync(hospitalService::fetchDepartmentItems);
+        CompletableFuture<List<SlotDateItem>> slotDateItems = DatabaseExecutor.supplyAsync(hospitalService::fetchSlotDateItems);
+
+        CompletableFuture.allOf(hospitals, departments, dates, timeSlots, hospitalItems, departmentItems, slotDateItems)
+            .whenComplete((ignored, error) -> SwingUtilities.invokeLater(() -> {
+                try {
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        System.err.println("Error refreshing Hospital Management Panel data: " + cause.getMessage());
+                        cause.printStackTrace();
+                        JOptionPane.showMessageDialog(parentFrame,
+                            "Error refreshing data: " + cause.getMessage(),
+                            "Refresh Error",
+                            JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
 
-                // Refresh combo boxes
-                if (hospitalCombo != null) {
-                    hospitalService.loadHospitalsCombo(hospitalCombo);
-                }
+                    hospitalModel.setDataVector(hospitals.join(), HOSPITAL_COLUMNS);
+                    departmentModel.setDataVector(departments.join(), DEPARTMENT_COLUMNS);
+                    dateModel.setDataVector(dates.join(), DATE_COLUMNS);
+                    timeSlotModel.setRows(timeSlots.join());
 
-                if (departmentCombo != null) {
-                    hospitalService.loadDepartmentsCombo(departmentCombo);
-                }
+                    hospitalCombo.setModel(new DefaultComboBoxModel<>(new Vector<>(hospitalItems.join())));
+                    departmentCombo.setModel(new DefaultComboBoxModel<>(new Vector<>(departmentItems.join())));
+                    slotDateCombo.setModel(new DefaultComboBoxModel<>(new Vector<>(slotDateItems.join())));
 
-                if (slotDateCombo != null) {
-                    hospitalService.loadSlotDatesCombo(slotDateCombo);
+                    System.out.println("Hospital Management Panel data refreshed successfully");
+                } finally {
+                    isRefreshing = false;
                 }
+            }));
+    }
 
-                System.out.println("Hospital Management Panel data refreshed successfully");
+    /**
+     * Skeleton rows shown while the real data is loading
+     */
+    private static Object[][] createPlaceholderRows(int columnCount) {
+        Object[][] rows = new Object[PLACEHOLDER_ROWS][columnCount];
+        for (Object[] row : rows) {
+            java.util.Arrays.fill(row, "");
+            row[1] = PLACEHOLDER_TEXT;
+        }
+        return rows;
+    }
 
-            } catch (Exception e) {
-                System.err.println("Error refreshing Hospital Management Panel data: " + e.getMessage());
-                e.printStackTrace();
-                JOptionPane.showMessageDialog(parentFrame,
-                    "Error refreshing data: " + e.getMessage(),
-                    "Refresh Error",
-                    JOptionPane.ERROR_MESSAGE);
-            }
-        });
+    private static boolean isPlaceholder(Object cellValue) {
+        return "".equals(cellValue);
     }
 
     /**
@@ -648,15 +693,10 @@ public class HospitalManagementPanel extends JPanel  {
      */
     private void refreshTimeSlotTable() {
         if (timeSlotModel != null) {
-            Thread thread = new Thread(() -> {
-                Object[][] timeSlotData = hospitalService.fetchTimeSlots();
-                SwingUtilities.invokeLater(() -> {
-                    timeSlotModel.setDataVector(timeSlotData,
-                        new String[]{"ID", "Hospital", "Department", "Date", "Start Time", "End Time", "Capacity", "Actions"});
-                    timeSlotModel.fireTableDataChanged();
-                });
+            DatabaseExecutor.execute(() -> {
+                List<TimeSlotRow> timeSlotData = hospitalService.fetchTimeSlotsWithBookedCounts();
+                SwingUtilities.invokeLater(() -> timeSlotModel.setRows(timeSlotData));
             });
-            thread.start();
         }
     }
 
@@ -685,7 +725,7 @@ public class HospitalManagementPanel extends JPanel  {
     }
 
     /**
-     * Generic method to perform database operations in a background thread
+     * Generic method to perform database operations on the shared database executor
      * This prevents UI freezing during long-running database queries
      */
     public static void performDatabaseOperation(
@@ -699,7 +739,7 @@ public class HospitalManagementPanel extends JPanel  {
             triggerComponent.setEnabled(false);
         }
 
-        Thread thread = new Thread(() -> {
+        DatabaseExecutor.execute(DatabaseExecutor.Priority.INTERACTIVE, () -> {
             try {
                 databaseOperation.run();
                 SwingUtilities.invokeLater(() -> {
@@ -721,6 +761,5 @@ public class HospitalManagementPanel extends JPanel  {
                 });
             }
         });
-        thread.start();
     }
 }
@@ -1,27 +1,85 @@
 package org.example.ui.panels;
 
+import org.example.models.BatchResult;
+import org.example.models.SchoolQuery;
+import org.example.models.SchoolRow;
 import org.example.services.SchoolService;
 import org.example.ui.components.SchoolTableComponents;
-import org.example.utils.RefreshUtils;
+import org.example.ui.models.KeyedRowTableModel;
+import org.example.ui.models.RowTableModel;
+import org.example.utils.DatabaseExecutor;
+import org.example.utils.DatabaseWorker;
+import org.example.utils.QueryHandle;
 import org.example.utils.UIStyler;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 public class SchoolManagementPanel extends JPanel  {
+    private static final String ALL_STATUSES = "All";
+    private static final String[] STATUS_FILTERS = {"Pending", "Approved", "Rejected", ALL_STATUSES};
+    // Wait for the admin to stop typing before querying by name
+    private static final int NAME_FILTER_DELAY_MILLIS = 300;
+
     private final JFrame parentFrame;
     private final SchoolService schoolService;
     private JTable schoolTable;
-    private DefaultTableModel schoolTableModel;
-    private volatile boolean isRefreshing = false;
+    private KeyedRowTableModel<Integer, SchoolRow> schoolTableModel;
+
+    // Filter bar
+    private JComboBox<String> statusFilter;
+    private JTextField nameFilter;
+    private JComboBox<SchoolQuery.SortColumn> sortFilter;
+    private JCheckBox descendingCheck;
+    private JButton previousButton;
+    private JButton nextButton;
+    private JLabel pageLabel;
+    private JButton approveSelectedButton;
+    private JButton rejectSelectedButton;
+    private Timer nameFilterTimer;
+
+    private SchoolQuery currentQuery = SchoolQuery.pending();
+    // The load in flight, if any; a newer load or hiding the tab cancels it
+    private QueryHandle inFlight;
+    private boolean reloadWhenShown;
 
     public SchoolManagementPanel(JFrame parentFrame) {
         this.parentFrame = parentFrame;
         this.schoolService = new SchoolService();
 
         initializeComponents();
+        setupVisibilityHandling();
+    }
 
+    /**
+     * Switching away from a tab that was showing cancels a load still in flight; it is redone when the tab is
+     * shown again. Only a change of the showing state counts: a prefetched tab is hidden from the start, and its
+     * first load must not be cancelled.
+     */
+    private void setupVisibilityHandling() {
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) == 0) {
+                return;
+            }
+            if (isShowing()) {
+                if (reloadWhenShown) {
+                    reloadWhenShown = false;
+                    refreshData();
+                }
+            } else if (inFlight != null) {
+                inFlight.cancel();
+                inFlight = null;
+                reloadWhenShown = true;
+            }
+        });
     }
 
     private void initializeComponents() {
@@ -32,95 +90,258 @@ public class SchoolManagementPanel extends JPanel  {
         JPanel contentPanel = new JPanel(new BorderLayout());
 
         // Initialize with empty data first to prevent blocking
-        String[] columns = {"School ID", "School Name", "Registered By", "Status", "Students", "Actions"};
-        Object[][] initialData = new Object[0][6]; // Empty initially
-
-        schoolTableModel = new DefaultTableModel(initialData, columns) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 5;
-            }
-        };
+        schoolTableModel = new KeyedRowTableModel<>(SchoolRow::getSchoolId,
+            new RowTableModel.Column<>("School ID", Integer.class, SchoolRow::getSchoolId),
+            new RowTableModel.Column<>("School Name", String.class, SchoolRow::getSchoolName),
+            new RowTableModel.Column<>("Registered By", String.class, SchoolRow::getRegisteredBy),
+            new RowTableModel.Column<>("Status", String.class, SchoolRow::getStatus),
+            new RowTableModel.Column<>("Students", Integer.class, SchoolRow::getStudentCount),
+            new RowTableModel.Column<>("Actions", String.class, school -> "Actions", true));
 
-        schoolTable = UIStyler.createStyledTable(initialData, columns);
+        // Sorting is done by the database through the filter bar
+        schoolTable = UIStyler.createStyledTable(new Object[0][0], schoolTableModel.getColumnNames());
         schoolTable.setModel(schoolTableModel);
+        schoolTable.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
 
         schoolTable.getColumn("Actions").setCellRenderer(new SchoolTableComponents.SchoolActionRenderer());
         schoolTable.getColumn("Actions").setCellEditor(new SchoolTableComponents.SchoolActionEditor(
-            parentFrame, schoolTableModel, this::refreshSchoolTable));
+            parentFrame, schoolTableModel));
 
         JScrollPane scrollPane = new JScrollPane(schoolTable);
 
-        contentPanel.add(UIStyler.createStyledLabel("School Management", UIStyler.TITLE_FONT, UIStyler.TEXT_COLOR), BorderLayout.NORTH);
+        JPanel headerPanel = new JPanel(new BorderLayout());
+        headerPanel.add(UIStyler.createStyledLabel("School Management", UIStyler.TITLE_FONT, UIStyler.TEXT_COLOR), BorderLayout.NORTH);
+        headerPanel.add(createFilterBar(), BorderLayout.CENTER);
+
+        contentPanel.add(headerPanel, BorderLayout.NORTH);
         contentPanel.add(scrollPane, BorderLayout.CENTER);
+        contentPanel.add(createBottomBar(), BorderLayout.SOUTH);
 
         add(contentPanel, BorderLayout.CENTER);
 
         // Load data asynchronously after UI is set up
-        loadDataAsync();
+        refreshData();
     }
 
-    private void loadDataAsync() {
-        schoolService.fetchSchoolsForManagementAsync(
-            data -> {
-                SwingUtilities.invokeLater(() -> {
-                    RefreshUtils.refreshTableModel(schoolTableModel, data);
-                    System.out.println("School Management Panel initialized with " + data.length + " schools");
-                });
-            },
-            error -> {
-                SwingUtilities.invokeLater(() -> {
-                    System.err.println("Error loading initial school data: " + error.getMessage());
-                    JOptionPane.showMessageDialog(this,
-                        "Failed to load school data: " + error.getMessage(),
-                        "Loading Error",
-                        JOptionPane.ERROR_MESSAGE);
-                });
+    private JPanel createFilterBar() {
+        JPanel filterBar = new JPanel(new FlowLayout(FlowLayout.LEFT));
+
+        statusFilter = new JComboBox<>(STATUS_FILTERS);
+        statusFilter.setSelectedItem(currentQuery.getStatus());
+        statusFilter.addActionListener(e -> applyFilters());
+
+        nameFilter = new JTextField(15);
+        nameFilterTimer = new Timer(NAME_FILTER_DELAY_MILLIS, e -> applyFilters());
+        nameFilterTimer.setRepeats(false);
+        nameFilter.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                nameFilterTimer.restart();
             }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                nameFilterTimer.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                nameFilterTimer.restart();
+            }
+        });
+
+        sortFilter = new JComboBox<>(SchoolQuery.SortColumn.values());
+        sortFilter.setSelectedItem(currentQuery.getSortColumn());
+        sortFilter.addActionListener(e -> applyFilters());
+
+        descendingCheck = new JCheckBox("Descending");
+        descendingCheck.addActionListener(e -> applyFilters());
+
+        filterBar.add(new JLabel("Status:"));
+        filterBar.add(statusFilter);
+        filterBar.add(new JLabel("Name starts with:"));
+        filterBar.add(nameFilter);
+        filterBar.add(new JLabel("Sort by:"));
+        filterBar.add(sortFilter);
+        filterBar.add(descendingCheck);
+        return filterBar;
+    }
+
+    private JPanel createBottomBar() {
+        JPanel bottomBar = new JPanel(new BorderLayout());
+
+        // Bulk actions on the selected pending schools
+        JPanel bulkBar = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        approveSelectedButton = new JButton("Approve Selected");
+        UIStyler.styleButton(approveSelectedButton);
+        approveSelectedButton.addActionListener(e -> changeSelectedStatus("Approved", schoolService::approveSchools));
+        rejectSelectedButton = new JButton("Reject Selected");
+        UIStyler.styleButton(rejectSelectedButton);
+        rejectSelectedButton.addActionListener(e -> changeSelectedStatus("Rejected", schoolService::rejectSchools));
+        bulkBar.add(approveSelectedButton);
+        bulkBar.add(rejectSelectedButton);
+        bottomBar.add(bulkBar, BorderLayout.WEST);
+
+        JPanel pagingBar = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+
+        previousButton = new JButton("Previous");
+        previousButton.addActionListener(e -> {
+            currentQuery = currentQuery.withOffset(currentQuery.getOffset() - currentQuery.getLimit());
+            refreshData();
+        });
+
+        nextButton = new JButton("Next");
+        nextButton.addActionListener(e -> {
+            currentQuery = currentQuery.withOffset(currentQuery.getOffset() + currentQuery.getLimit());
+            refreshData();
+        });
+
+        pageLabel = new JLabel(" ");
+        pagingBar.add(pageLabel);
+        pagingBar.add(previousButton);
+        pagingBar.add(nextButton);
+        bottomBar.add(pagingBar, BorderLayout.EAST);
+        return bottomBar;
+    }
+
+    /**
+     * Approve or reject every selected pending school in one batched transaction,
+     * then patch the status of the rows that succeeded instead of re-querying the list
+     */
+    private void changeSelectedStatus(String newStatus, Function<List<Integer>, BatchResult<Integer>> batchCall) {
+        List<Integer> schoolIds = new ArrayList<>();
+        int skipped = 0;
+        for (int viewRow : schoolTable.getSelectedRows()) {
+            SchoolRow school = schoolTableModel.getRow(schoolTable.convertRowIndexToModel(viewRow));
+            if ("Pending".equalsIgnoreCase(school.getStatus())) {
+                schoolIds.add(school.getSchoolId());
+            } else {
+                skipped++;
+            }
+        }
+
+        if (schoolIds.isEmpty()) {
+            JOptionPane.showMessageDialog(parentFrame,
+                "Please select one or more pending schools.",
+                "No Selection",
+                JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        String verb = "Approved".equals(newStatus) ? "Approve" : "Reject";
+        String message = verb + " " + schoolIds.size() + " selected school(s)?"
+            + (skipped > 0 ? "\n" + skipped + " selected school(s) are not pending and will be skipped." : "");
+        int confirm = JOptionPane.showConfirmDialog(parentFrame, message, "Confirm", JOptionPane.YES_NO_OPTION);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+
+        if (schoolTable.isEditing()) {
+            schoolTable.getCellEditor().stopCellEditing();
+        }
+
+        DatabaseWorker.execute(
+            DatabaseExecutor.Priority.INTERACTIVE,
+            () -> batchCall.apply(schoolIds),
+            result -> {
+                Set<Integer> changedIds = new HashSet<>(result.getSucceeded());
+                schoolTableModel.updateRows(school -> changedIds.contains(school.getSchoolId()),
+                    school -> school.withStatus(newStatus));
+                JOptionPane.showMessageDialog(parentFrame,
+                    result.getSummary(verb.toLowerCase() + " action(s)", 10),
+                    result.isAllSucceeded() ? "Success" : "Some Schools Failed",
+                    result.isAllSucceeded() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+            },
+            error -> JOptionPane.showMessageDialog(parentFrame,
+                "Error updating schools: " + error.getMessage(),
+                "Error",
+                JOptionPane.ERROR_MESSAGE),
+            () -> setBulkButtonsEnabled(false),
+            () -> setBulkButtonsEnabled(true)
         );
     }
 
+    private void setBulkButtonsEnabled(boolean enabled) {
+        approveSelectedButton.setEnabled(enabled);
+        rejectSelectedButton.setEnabled(enabled);
+        parentFrame.setCursor(enabled ? Cursor.getDefaultCursor() : Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+    }
+
+    /**
+     * Build a new query from the filter bar, starting again from the first page
+     */
+    private void applyFilters() {
+        nameFilterTimer.stop();
+        String status = (String) statusFilter.getSelectedItem();
+        currentQuery = new SchoolQuery(
+            ALL_STATUSES.equals(status) ? null : status,
+            nameFilter.getText().trim(),
+            (SchoolQuery.SortColumn) sortFilter.getSelectedItem(),
+            !descendingCheck.isSelected(),
+            SchoolQuery.DEFAULT_LIMIT,
+            0);
+        refreshData();
+    }
+
     public void refreshSchoolTable() {
         refreshData();
     }
 
 
+    /**
+     * Reload the current page of the current query. A newer request cancels any still in flight.
+     */
     public void refreshData() {
-        if (isRefreshing) {
-            System.out.println("School Management Panel refresh already in progress");
-            return;
+        if (inFlight != null) {
+            inFlight.cancel();
         }
-
-        isRefreshing = true;
+        QueryHandle handle = QueryHandle.withDefaultTimeout();
+        inFlight = handle;
+        reloadWhenShown = false;
+        SchoolQuery query = currentQuery;
         System.out.println("Starting School Management Panel refresh...");
 
-        schoolService.fetchSchoolsForManagementAsync(
+        schoolService.fetchSchoolsAsync(
+            handle,
+            query,
             data -> {
                 SwingUtilities.invokeLater(() -> {
-                    try {
-                        RefreshUtils.refreshTableModel(schoolTableModel, data);
-                        System.out.println("School Management Panel data refreshed successfully - " + data.length + " schools loaded");
-                    } finally {
-                        isRefreshing = false;
+                    // Cancelled after the result was handed over
+                    if (handle != inFlight) {
+                        return;
                     }
+                    inFlight = null;
+                    // Only changed rows fire events, so selection and scroll survive a refresh
+                    schoolTableModel.replaceRows(data);
+                    updatePagingBar(query, data.size());
+                    System.out.println("School Management Panel data refreshed successfully - " + data.size() + " schools loaded");
                 });
             },
             error -> {
                 SwingUtilities.invokeLater(() -> {
-                    try {
-                        System.err.println("Error refreshing School Management Panel: " + error.getMessage());
-                        JOptionPane.showMessageDialog(this,
-                            "Failed to refresh school data: " + error.getMessage(),
-                            "Refresh Error",
-                            JOptionPane.ERROR_MESSAGE);
-                    } finally {
-                        isRefreshing = false;
+                    if (handle != inFlight) {
+                        return;
                     }
+                    inFlight = null;
+                    System.err.println("Error refreshing School Management Panel: " + error.getMessage());
+                    JOptionPane.showMessageDialog(this,
+                        "Failed to refresh school data: " + error.getMessage(),
+                        "Refresh Error",
+                        JOptionPane.ERROR_MESSAGE);
                 });
             }
         );
     }
 
+    private void updatePagingBar(SchoolQuery query, int rowCount) {
+        previousButton.setEnabled(query.getOffset() > 0);
+        // A full page means there may be more
+        nextButton.setEnabled(rowCount == query.getLimit());
+        pageLabel.setText(rowCount == 0
+            ? "No schools"
+            : "Showing " + (query.getOffset() + 1) + "-" + (query.getOffset() + rowCount));
+    }
+
     /**
      * Cleanup method called when the application is shutting down
      * This method ensures proper cleanup of resources and ongoing operations
@@ -129,20 +350,19 @@ public class SchoolManagementPanel extends JPanel  {
         System.out.println("Starting SchoolManagementPanel cleanup...");
 
         try {
-            // Stop any ongoing refresh operations
-            isRefreshing = false;
-
-            // Clear table data to free memory
-            if (schoolTableModel != null) {
-                SwingUtilities.invokeLater(() -> {
-                    schoolTableModel.setRowCount(0);
-                    schoolTableModel.fireTableDataChanged();
-                });
-            }
-
-            // Cancel any ongoing async operations by setting a flag
-            // Note: The async operations check isRefreshing flag, so setting it to false
-            // will prevent them from updating the UI after cleanup
+            // Clear table data to free memory, and cancel the request still in flight
+            SwingUtilities.invokeLater(() -> {
+                if (inFlight != null) {
+                    inFlight.cancel();
+                    inFlight = null;
+                }
+                if (nameFilterTimer != null) {
+                    nameFilterTimer.stop();
+                }
+                if (schoolTableModel != null) {
+                    schoolTableModel.setRows(null);
+                }
+            });
 
             System.out.println("SchoolManagementPanel cleanup completed successfully");
 
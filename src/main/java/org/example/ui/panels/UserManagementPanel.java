@@ -1,16 +1,27 @@
 package org.example.ui.panels;
 
+import org.example.models.BatchResult;
+import org.example.models.UserRow;
 import org.example.services.UserService;
 import org.example.ui.components.UserTableComponents;
 import org.example.ui.dialogs.SchoolDialogs;
+import org.example.ui.models.KeyedRowTableModel;
+import org.example.ui.models.RowTableModel;
+import org.example.utils.DatabaseExecutor;
+import org.example.utils.DatabaseWorker;
 import org.example.utils.RefreshUtils;
 import org.example.utils.UIStyler;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Panel for managing users (pending and approved)
@@ -21,18 +32,22 @@ public class UserManagementPanel extends JPanel  {
     private final SchoolDialogs schoolDialogs;
 
     // Table models for refresh functionality
-    private DefaultTableModel pendingUsersModel;
-    private DefaultTableModel approvedUsersModel;
+    private KeyedRowTableModel<Integer, UserRow> pendingUsersModel;
+    private KeyedRowTableModel<Integer, UserRow> approvedUsersModel;
+    private JButton approveSelectedButton;
     private JTable pendingUsersTable;
     private JTable approvedUsersTable;
 
+    private volatile boolean isRefreshing = false;
+
     public UserManagementPanel(JFrame parentFrame) {
         this.parentFrame = parentFrame;
         this.userService = new UserService();
         this.schoolDialogs = new SchoolDialogs(parentFrame, new org.example.services.SchoolService());
 
+        // Build the UI with empty tables, then load users in the background
         initializeComponents();
-
+        refreshData();
     }
 
     private void initializeComponents() {
@@ -54,26 +69,27 @@ public class UserManagementPanel extends JPanel  {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
-        String[] columns = {"User ID", "Full Name", "Email", "Added At", "Approve"};
-        Object[][] rawData = userService.fetchUsersFromView(false);
-        Object[][] data = new Object[rawData.length][5];
-        for (int i = 0; i < rawData.length; i++) {
-            System.arraycopy(rawData[i], 0, data[i], 0, 4);
-            data[i][4] = "Approve";
-        }
+        pendingUsersModel = new KeyedRowTableModel<>(UserRow::getUserId,
+            new RowTableModel.Column<>("User ID", Integer.class, UserRow::getUserId),
+            new RowTableModel.Column<>("Full Name", String.class, UserRow::getFullName),
+            new RowTableModel.Column<>("Email", String.class, UserRow::getEmail),
+            new RowTableModel.Column<>("Added At", LocalDateTime.class, UserRow::getAddedAt),
+            new RowTableModel.Column<>("Approve", String.class, user -> "Approve", true));
 
-        pendingUsersModel = new DefaultTableModel(data, columns) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 4;
-            }
-        };
-
-        pendingUsersTable = UIStyler.createStyledTable(data, columns);
+        pendingUsersTable = UIStyler.createStyledTable(new Object[0][0], pendingUsersModel.getColumnNames());
         pendingUsersTable.setModel(pendingUsersModel);
+        pendingUsersTable.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         pendingUsersTable.getColumn("Approve").setCellRenderer(new UserTableComponents.ButtonRenderer());
         pendingUsersTable.getColumn("Approve").setCellEditor(new UserTableComponents.ButtonEditor(parentFrame, pendingUsersModel));
 
+        // Approve every selected user in one batch
+        approveSelectedButton = new JButton("Approve Selected");
+        UIStyler.styleButton(approveSelectedButton);
+        approveSelectedButton.addActionListener(e -> approveSelectedUsers());
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(approveSelectedButton);
+        panel.add(buttonPanel, BorderLayout.SOUTH);
+
         JScrollPane scrollPane = new JScrollPane(pendingUsersTable);
         panel.add(UIStyler.createStyledLabel("Pending Users", UIStyler.TITLE_FONT, UIStyler.TEXT_COLOR), BorderLayout.NORTH);
         panel.add(scrollPane, BorderLayout.CENTER);
@@ -85,17 +101,13 @@ public class UserManagementPanel extends JPanel  {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
-        String[] columns = {"User ID", "Full Name", "Email", "Added At"};
-        Object[][] data = userService.fetchUsersFromView(true);
+        approvedUsersModel = new KeyedRowTableModel<>(UserRow::getUserId,
+            new RowTableModel.Column<>("User ID", Integer.class, UserRow::getUserId),
+            new RowTableModel.Column<>("Full Name", String.class, UserRow::getFullName),
+            new RowTableModel.Column<>("Email", String.class, UserRow::getEmail),
+            new RowTableModel.Column<>("Added At", LocalDateTime.class, UserRow::getAddedAt));
 
-        approvedUsersModel = new DefaultTableModel(data, columns) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-
-        approvedUsersTable = UIStyler.createStyledTable(data, columns);
+        approvedUsersTable = UIStyler.createStyledTable(new Object[0][0], approvedUsersModel.getColumnNames());
         approvedUsersTable.setModel(approvedUsersModel);
 
         // Add mouse listener for double-click to show schools
@@ -118,31 +130,100 @@ public class UserManagementPanel extends JPanel  {
     }
 
 
+    /**
+     * Reload pending and approved users in parallel off the EDT
+     */
     public void refreshData() {
-        SwingUtilities.invokeLater(() -> {
+        if (isRefreshing) {
+            System.out.println("User Management Panel refresh already in progress");
+            return;
+        }
+        isRefreshing = true;
+
+        CompletableFuture<List<UserRow>> pending = DatabaseExecutor.supplyAsync(() -> userService.fetchUsersFromView(false));
+        CompletableFuture<List<UserRow>> approved = DatabaseExecutor.supplyAsync(() -> userService.fetchUsersFromView(true));
+
+        CompletableFuture.allOf(pending, approved).whenComplete((ignored, error) -> SwingUtilities.invokeLater(() -> {
             try {
-                // Refresh pending users
-                Object[][] pendingRawData = userService.fetchUsersFromView(false);
-                Object[][] pendingData = new Object[pendingRawData.length][5];
-                for (int i = 0; i < pendingRawData.length; i++) {
-                    System.arraycopy(pendingRawData[i], 0, pendingData[i], 0, 4);
-                    pendingData[i][4] = "Approve";
+                if (error != null) {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    System.err.println("Error refreshing User Management Panel: " + cause.getMessage());
+                    JOptionPane.showMessageDialog(this,
+                        "Failed to refresh user data: " + cause.getMessage(),
+                        "Refresh Error",
+                        JOptionPane.ERROR_MESSAGE);
+                    return;
                 }
-                RefreshUtils.refreshTableModel(pendingUsersModel, pendingData);
 
-                // Refresh approved users
-                Object[][] approvedData = userService.fetchUsersFromView(true);
-                RefreshUtils.refreshTableModel(approvedUsersModel, approvedData);
+                // Only changed rows fire events, so selection and scroll survive a refresh
+                pendingUsersModel.replaceRows(pending.join());
+                approvedUsersModel.replaceRows(approved.join());
 
                 System.out.println("User Management Panel data refreshed successfully");
-            } catch (Exception e) {
-                System.err.println("Error refreshing User Management Panel: " + e.getMessage());
-                JOptionPane.showMessageDialog(this,
-                    "Failed to refresh user data: " + e.getMessage(),
-                    "Refresh Error",
-                    JOptionPane.ERROR_MESSAGE);
+            } finally {
+                isRefreshing = false;
             }
-        });
+        }));
     }
 
+    /**
+     * Approve all selected pending users with one batched call, then drop the approved rows in one model update
+     */
+    private void approveSelectedUsers() {
+        int[] selectedRows = pendingUsersTable.getSelectedRows();
+        if (selectedRows.length == 0) {
+            JOptionPane.showMessageDialog(parentFrame,
+                "Please select one or more users to approve.",
+                "No Selection",
+                JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        List<Integer> userIds = new ArrayList<>(selectedRows.length);
+        for (int viewRow : selectedRows) {
+            userIds.add(pendingUsersModel.getRow(pendingUsersTable.convertRowIndexToModel(viewRow)).getUserId());
+        }
+
+        int confirm = JOptionPane.showConfirmDialog(parentFrame,
+            "Approve " + userIds.size() + " selected user(s)?",
+            "Confirm User Approval",
+            JOptionPane.YES_NO_OPTION,
+            JOptionPane.QUESTION_MESSAGE);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+
+        if (pendingUsersTable.isEditing()) {
+            pendingUsersTable.getCellEditor().stopCellEditing();
+        }
+
+        DatabaseWorker.execute(
+            DatabaseExecutor.Priority.INTERACTIVE,
+            () -> userService.approveUsers(userIds),
+            result -> {
+                Set<Integer> approvedIds = new HashSet<>(result.getSucceeded());
+                pendingUsersModel.removeRows(user -> approvedIds.contains(user.getUserId()));
+                showApprovalResult(result);
+            },
+            error -> JOptionPane.showMessageDialog(parentFrame,
+                "Error approving users: " + error.getMessage(),
+                "Database Error",
+                JOptionPane.ERROR_MESSAGE),
+            () -> {
+                approveSelectedButton.setEnabled(false);
+                approveSelectedButton.setText("Processing...");
+            },
+            () -> {
+                approveSelectedButton.setEnabled(true);
+                approveSelectedButton.setText("Approve Selected");
+            }
+        );
+    }
+
+    private void showApprovalResult(BatchResult<Integer> result) {
+        JOptionPane.showMessageDialog(parentFrame,
+            result.getSummary("approval(s)", 10),
+            result.isAllSucceeded() ? "Users Approved" : "Some Approvals Failed",
+            result.isAllSucceeded() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+    }
 }
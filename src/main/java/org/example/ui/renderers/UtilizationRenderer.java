@@ -0,0 +1,60 @@
+package org.example.ui.renderers;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+
+/**
+ * Custom table cell renderer for a utilization percentage (Double, 0-100+)
+ * Full slots are highlighted red, nearly full ones orange and empty ones grey
+ */
+public class UtilizationRenderer extends DefaultTableCellRenderer {
+
+    private static final double NEARLY_FULL_PERCENT = 80.0;
+
+    private static final Color FULL_COLOR = new Color(255, 230, 230);
+    private static final Color NEARLY_FULL_COLOR = new Color(255, 243, 224);
+    private static final Color EMPTY_COLOR = new Color(240, 240, 240);
+    private static final Color FULL_TEXT_COLOR = new Color(150, 0, 0);
+    private static final Color NEARLY_FULL_TEXT_COLOR = new Color(200, 120, 0);
+    private static final Color EMPTY_TEXT_COLOR = Color.GRAY;
+
+    public UtilizationRenderer() {
+        setHorizontalAlignment(SwingConstants.RIGHT);
+    }
+
+    @Override
+    public Component getTableCellRendererComponent(JTable table, Object value,
+            boolean isSelected, boolean hasFocus, int row, int column) {
+        String text = value instanceof Number ? String.format("%.0f%%", ((Number) value).doubleValue()) : "";
+        Component c = super.getTableCellRendererComponent(table, text, isSelected, hasFocus, row, column);
+
+        if (isSelected) {
+            c.setBackground(table.getSelectionBackground());
+            setForeground(table.getSelectionForeground());
+        } else if (!(value instanceof Number)) {
+            c.setBackground(table.getBackground());
+            setForeground(table.getForeground());
+        } else {
+            applyUtilizationStyling(c, ((Number) value).doubleValue(), table);
+        }
+        return c;
+    }
+
+    private void applyUtilizationStyling(Component component, double percent, JTable table) {
+        if (percent >= 100.0) {
+            component.setBackground(FULL_COLOR);
+            setForeground(FULL_TEXT_COLOR);
+            setFont(getFont().deriveFont(Font.BOLD));
+        } else if (percent >= NEARLY_FULL_PERCENT) {
+            component.setBackground(NEARLY_FULL_COLOR);
+            setForeground(NEARLY_FULL_TEXT_COLOR);
+        } else if (percent == 0.0) {
+            component.setBackground(EMPTY_COLOR);
+            setForeground(EMPTY_TEXT_COLOR);
+        } else {
+            component.setBackground(table.getBackground());
+            setForeground(table.getForeground());
+        }
+    }
+}
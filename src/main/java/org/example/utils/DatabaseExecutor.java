@@ -0,0 +1,207 @@
+package org.example.utils;
+
+import org.example.DatabaseConnection;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Application-wide executor for all blocking database work.
+ * The number of workers matches the connection pool's maximum size, so a running task
+ * never has to wait on the pool's borrow timeout; extra tasks wait in the executor's queue instead.
+ *
+ * Queued tasks are ordered by {@link Priority}: user-initiated work (drill-downs, approvals)
+ * is picked up before queued bulk refreshes, and tasks within a lane run in submission order.
+ */
+public class DatabaseExecutor {
+
+    /**
+     * Scheduling lanes, highest priority first
+     */
+    public enum Priority {
+        /** Work the user is actively waiting on: drill-downs, approvals, dialogs */
+        INTERACTIVE,
+        /** Bulk refreshes, auto-refreshes and prefetching */
+        BACKGROUND
+    }
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final Map<Priority, QueueWaitRecorder> waitRecorders = new EnumMap<>(Priority.class);
+    private static final Map<Priority, Executor> lanes = new EnumMap<>(Priority.class);
+
+    static {
+        for (Priority priority : Priority.values()) {
+            waitRecorders.put(priority, new QueueWaitRecorder());
+            lanes.put(priority, task -> execute(priority, task));
+        }
+    }
+
+    private static final ThreadPoolExecutor executor = createExecutor();
+
+    private static ThreadPoolExecutor createExecutor() {
+        int workers = DatabaseConnection.getPool().getMaxSize();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                workers, workers,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(),
+                r -> {
+                    Thread thread = new Thread(r, "db-worker-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // Idle workers go away between bursts of activity
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Run a task on a database worker in the background lane
+     */
+    public static void execute(Runnable task) {
+        execute(Priority.BACKGROUND, task);
+    }
+
+    /**
+     * Run a task on a database worker in the given lane
+     */
+    public static void execute(Priority priority, Runnable task) {
+        executor.execute(new PrioritizedTask(priority, task));
+    }
+
+    /**
+     * Run a task on a database worker in the background lane and complete the returned future with its result
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return supplyAsync(Priority.BACKGROUND, task);
+    }
+
+    /**
+     * Run a task on a database worker in the given lane and complete the returned future with its result
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Priority priority, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, lanes.get(priority));
+    }
+
+    /**
+     * The background lane, for APIs that take an {@link Executor}
+     */
+    public static Executor executor() {
+        return executor(Priority.BACKGROUND);
+    }
+
+    /**
+     * The given lane, for APIs that take an {@link Executor}
+     */
+    public static Executor executor(Priority priority) {
+        return lanes.get(priority);
+    }
+
+    /**
+     * Queue-wait statistics for a lane since startup
+     */
+    public static QueueWaitStats getQueueWaitStats(Priority priority) {
+        return waitRecorders.get(priority).snapshot(priority);
+    }
+
+    /**
+     * Stop accepting work and give running tasks a short grace period to finish
+     */
+    public static void shutdown() {
+        for (Priority priority : Priority.values()) {
+            System.out.println(getQueueWaitStats(priority));
+        }
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Snapshot of how long tasks in one lane waited in the queue before a worker picked them up
+     */
+    public static class QueueWaitStats {
+        public final Priority priority;
+        public final long taskCount;
+        public final double averageWaitMillis;
+        public final double maxWaitMillis;
+
+        public QueueWaitStats(Priority priority, long taskCount, double averageWaitMillis, double maxWaitMillis) {
+            this.priority = priority;
+            this.taskCount = taskCount;
+            this.averageWaitMillis = averageWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("DB queue wait [%s]: %d tasks, avg %.1f ms, max %.1f ms",
+                    priority, taskCount, averageWaitMillis, maxWaitMillis);
+        }
+    }
+
+    private static class QueueWaitRecorder {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long waitNanos) {
+            count.increment();
+            totalNanos.add(waitNanos);
+            maxNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        QueueWaitStats snapshot(Priority priority) {
+            long tasks = count.sum();
+            double average = tasks == 0 ? 0 : totalNanos.sum() / (double) tasks / 1_000_000.0;
+            return new QueueWaitStats(priority, tasks, average, maxNanos.get() / 1_000_000.0);
+        }
+    }
+
+    /**
+     * Queue entry ordered by lane, then by submission order within the lane
+     */
+    private static final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+        private final Priority priority;
+        private final long sequenceNumber;
+        private final long enqueuedAt;
+        private final Runnable task;
+
+        PrioritizedTask(Priority priority, Runnable task) {
+            this.priority = priority;
+            this.sequenceNumber = sequence.getAndIncrement();
+            this.enqueuedAt = System.nanoTime();
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            waitRecorders.get(priority).record(System.nanoTime() - enqueuedAt);
+            task.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package org.example.utils;
 
+import org.example.DatabaseConnection;
+import org.example.ui.models.ArrayTableModel;
+
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
@@ -13,10 +21,61 @@ import java.util.function.Supplier;
  */
 public class DatabaseWorker {
 
+    /** Default rows per published chunk for {@link #streamForTable} */
+    public static final int DEFAULT_CHUNK_SIZE = 200;
+    // Longest the EDT spends appending chunks before yielding to painting and input (about half a 60 Hz frame)
+    private static final long FRAME_BUDGET_NANOS = 8_000_000;
+    // A partial chunk is published after this long, so the first rows show up even while the query trickles
+    private static final long PUBLISH_INTERVAL_NANOS = 50_000_000;
+
+    /**
+     * Prepares the statement to stream, with its parameters bound
+     */
+    @FunctionalInterface
+    public interface StatementFactory {
+        PreparedStatement prepare(Connection conn) throws SQLException;
+    }
+
+    /**
+     * Maps the current result set row to table cells
+     */
+    @FunctionalInterface
+    public interface RowMapper {
+        Object[] map(ResultSet rs) throws SQLException;
+    }
+
     /**
      * Execute a database operation in the background with full lifecycle callbacks
      */
-    public static <T> void execute(
+    public static <T> QueryHandle execute(
+            Supplier<T> backgroundTask,
+            Consumer<T> onSuccess,
+            Consumer<Exception> onError,
+            Runnable onStart,
+            Runnable onFinish) {
+        return execute(DatabaseExecutor.Priority.BACKGROUND, backgroundTask, onSuccess, onError, onStart, onFinish);
+    }
+
+    /**
+     * Execute a database operation in the given scheduling lane with full lifecycle callbacks
+     */
+    public static <T> QueryHandle execute(
+            DatabaseExecutor.Priority priority,
+            Supplier<T> backgroundTask,
+            Consumer<T> onSuccess,
+            Consumer<Exception> onError,
+            Runnable onStart,
+            Runnable onFinish) {
+        return execute(priority, QueryHandle.withDefaultTimeout(), backgroundTask, onSuccess, onError, onStart, onFinish);
+    }
+
+    /**
+     * Execute a database operation under {@code handle}, which carries its query timeout.
+     * Once the handle is cancelled none of the callbacks run, including {@code onFinish}.
+     */
+    public static <T> QueryHandle execute(
+            DatabaseExecutor.Priority priority,
+            QueryHandle handle,
             Supplier<T> backgroundTask,
             Consumer<T> onSuccess,
             Consumer<Exception> onError,
@@ -26,11 +85,14 @@ public class DatabaseWorker {
         SwingWorker<T, Void> worker = new SwingWorker<>() {
             @Override
             protected T doInBackground() {
-                return backgroundTask.get();
+                return handle.call(backgroundTask);
             }
 
             @Override
             protected void done() {
+                if (handle.isCancelled()) {
+                    return;
+                }
                 try {
                     T result = get();
                     onSuccess.accept(result);
@@ -54,32 +116,35 @@ public class DatabaseWorker {
             onStart.run();
         }
 
-        worker.execute();
+        // Run on the shared database executor instead of SwingWorker's own thread pool
+        handle.onCancel(() -> worker.cancel(false));
+        DatabaseExecutor.execute(priority, worker);
+        return handle;
     }
 
     /**
      * Simplified version without progress callbacks
      */
-    public static <T> void execute(
+    public static <T> QueryHandle execute(
             Supplier<T> backgroundTask,
             Consumer<T> onSuccess,
             Consumer<Exception> onError) {
-        execute(backgroundTask, onSuccess, onError, null, null);
+        return execute(backgroundTask, onSuccess, onError, null, null);
     }
 
     /**
      * Execute a database operation with default error handling
      */
-    public static <T> void execute(
+    public static <T> QueryHandle execute(
             Supplier<T> backgroundTask,
             Consumer<T> onSuccess) {
-        execute(backgroundTask, onSuccess, DatabaseWorker::showDefaultError);
+        return execute(backgroundTask, onSuccess, DatabaseWorker::showDefaultError);
     }
 
     /**
      * Execute a database operation with progress indication
      */
-    public static <T> void executeWithProgress(
+    public static <T> QueryHandle executeWithProgress(
             Supplier<T> backgroundTask,
             Consumer<T> onSuccess,
             Consumer<Exception> onError,
@@ -89,7 +154,7 @@ public class DatabaseWorker {
         // Create progress dialog
         JDialog progressDialog = createProgressDialog(parentComponent, progressMessage);
 
-        execute(
+        return execute(
             backgroundTask,
             result -> {
                 progressDialog.dispose();
@@ -107,11 +172,11 @@ public class DatabaseWorker {
     /**
      * Execute a void database operation (like insert/update/delete)
      */
-    public static void executeVoid(
+    public static QueryHandle executeVoid(
             Runnable backgroundTask,
             Runnable onSuccess,
             Consumer<Exception> onError) {
-        execute(
+        return execute(
             () -> {
                 backgroundTask.run();
                 return null;
@@ -124,7 +189,7 @@ public class DatabaseWorker {
     /**
      * Execute a database query and populate a JTable with the results
      */
-    public static void executeForTable(
+    public static QueryHandle executeForTable(
             Supplier<List<Object[]>> dataSupplier,
             JTable table,
             String[] columnNames,
@@ -132,22 +197,12 @@ public class DatabaseWorker {
             Runnable onStart,
             Runnable onFinish) {
 
-        execute(
+        return execute(
             dataSupplier,
             data -> {
-                // Update table on EDT
-                DefaultTableModel model = new DefaultTableModel(columnNames, 0) {
-                    @Override
-                    public boolean isCellEditable(int row, int column) {
-                        return false; // Make table read-only by default
-                    }
-                };
-
-                for (Object[] row : data) {
-                    model.addRow(row);
-                }
-
-                table.setModel(model);
+                // Update table on EDT: reuse the table's array model when the columns match,
+                // so a reload is a single data-changed event instead of a new model plus one event per row
+                arrayModelFor(table, columnNames).setData(data.toArray(new Object[0][]));
             },
             onError,
             onStart,
@@ -158,11 +213,231 @@ public class DatabaseWorker {
     /**
      * Simplified JTable update method
      */
-    public static void executeForTable(
+    public static QueryHandle executeForTable(
             Supplier<List<Object[]>> dataSupplier,
             JTable table,
             String[] columnNames) {
-        executeForTable(dataSupplier, table, columnNames, DatabaseWorker::showDefaultError, null, null);
+        return executeForTable(dataSupplier, table, columnNames, DatabaseWorker::showDefaultError, null, null);
+    }
+
+    /**
+     * Stream a query into a JTable: rows are read from the result set on a background thread and
+     * published in chunks of {@code chunkSize}, so the table fills progressively instead of all at once.
+     * The EDT appends chunks for at most a frame budget at a time before yielding.
+     * {@code onFinish} runs once the last row is shown, or after an error; after the handle is cancelled
+     * no more rows are appended and no callbacks run.
+     */
+    public static QueryHandle streamForTable(
+            StatementFactory query,
+            RowMapper mapper,
+            JTable table,
+            String[] columnNames,
+            int chunkSize,
+            Consumer<Exception> onError,
+            Runnable onStart,
+            Runnable onFinish) {
+
+        QueryHandle handle = QueryHandle.withDefaultTimeout();
+        ArrayTableModel model = arrayModelFor(table, columnNames);
+        model.setData(new Object[0][]);
+        if (onStart != null) {
+            onStart.run();
+        }
+        ChunkedTableWorker worker = new ChunkedTableWorker(handle, query, mapper, model, Math.max(1, chunkSize), onError, onFinish);
+        handle.onCancel(() -> worker.cancel(false));
+        DatabaseExecutor.execute(DatabaseExecutor.Priority.BACKGROUND, worker);
+        return handle;
+    }
+
+    /**
+     * Stream a query into a JTable with the default chunk size and error handling
+     */
+    public static QueryHandle streamForTable(
+            StatementFactory query,
+            RowMapper mapper,
+            JTable table,
+            String[] columnNames) {
+        return streamForTable(query, mapper, table, columnNames, DEFAULT_CHUNK_SIZE, DatabaseWorker::showDefaultError, null, null);
+    }
+
+    /**
+     * A forward-only, read-only statement with a fetch size of Integer.MIN_VALUE, which makes the MySQL driver
+     * stream rows instead of buffering the whole result. Calls in {@code {CALL ...}} form are prepared as
+     * callable statements. These statements bypass the pool's statement cache.
+     */
+    public static StatementFactory streamingStatement(String sql, Object... params) {
+        return conn -> {
+            PreparedStatement stmt = sql.trim().startsWith("{")
+                    ? conn.prepareCall(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+                    : conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            try {
+                stmt.setFetchSize(Integer.MIN_VALUE);
+                for (int i = 0; i < params.length; i++) {
+                    stmt.setObject(i + 1, params[i]);
+                }
+                return stmt;
+            } catch (SQLException e) {
+                stmt.close();
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * The table's array model if it already has these columns, otherwise a new one installed on the table
+     */
+    private static ArrayTableModel arrayModelFor(JTable table, String[] columnNames) {
+        if (table.getModel() instanceof ArrayTableModel
+                && Arrays.equals(((ArrayTableModel) table.getModel()).getColumnNames(), columnNames)) {
+            return (ArrayTableModel) table.getModel();
+        }
+        ArrayTableModel model = new ArrayTableModel(columnNames);
+        table.setModel(model);
+        return model;
+    }
+
+    /**
+     * Reads a result set in the background and publishes it in chunks. Published chunks are queued on the EDT
+     * and appended within a frame budget; whatever is left is appended on a later EDT turn.
+     */
+    private static final class ChunkedTableWorker extends SwingWorker<Long, Object[][]> {
+        private final QueryHandle handle;
+        private final StatementFactory query;
+        private final RowMapper mapper;
+        private final ArrayTableModel model;
+        private final int chunkSize;
+        private final Consumer<Exception> onError;
+        private final Runnable onFinish;
+
+        // EDT only
+        private final ArrayDeque<Object[][]> pending = new ArrayDeque<>();
+        private boolean drainScheduled;
+        private long appendedRows;
+        private long expectedRows = -1;
+        private boolean finished;
+
+        ChunkedTableWorker(QueryHandle handle, StatementFactory query, RowMapper mapper, ArrayTableModel model, int chunkSize,
+                           Consumer<Exception> onError, Runnable onFinish) {
+            this.handle = handle;
+            this.query = query;
+            this.mapper = mapper;
+            this.model = model;
+            this.chunkSize = chunkSize;
+            this.onError = onError;
+            this.onFinish = onFinish;
+        }
+
+        /**
+         * @return number of rows published
+         */
+        @Override
+        protected Long doInBackground() throws SQLException {
+            long published = 0;
+            try (Connection conn = DatabaseConnection.Connect()) {
+                if (conn == null) {
+                    throw new SQLException("Database connection is null");
+                }
+                try (PreparedStatement stmt = query.prepare(conn)) {
+                    QueryHandle.Registration registration = handle.register(stmt);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        Object[][] chunk = new Object[chunkSize][];
+                        int filled = 0;
+                        long lastPublish = System.nanoTime();
+                        while (!isCancelled() && rs.next()) {
+                            chunk[filled++] = mapper.map(rs);
+                            if (filled == chunkSize || System.nanoTime() - lastPublish >= PUBLISH_INTERVAL_NANOS) {
+                                publish(filled == chunkSize ? chunk : Arrays.copyOf(chunk, filled));
+                                published += filled;
+                                chunk = new Object[chunkSize][];
+                                filled = 0;
+                                lastPublish = System.nanoTime();
+                            }
+                        }
+                        if (filled > 0) {
+                            publish(Arrays.copyOf(chunk, filled));
+                            published += filled;
+                        }
+                    } finally {
+                        registration.close();
+                    }
+                }
+            }
+            return published;
+        }
+
+        @Override
+        protected void process(List<Object[][]> chunks) {
+            if (handle.isCancelled()) {
+                // The table may already belong to a newer load
+                pending.clear();
+                return;
+            }
+            pending.addAll(chunks);
+            if (!drainScheduled) {
+                drain();
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (handle.isCancelled()) {
+                pending.clear();
+                return;
+            }
+            try {
+                // Published chunks may still be on their way to process(); finish once they are all shown
+                expectedRows = get();
+                finishIfComplete();
+                return;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                onError.accept((cause instanceof Exception) ? (Exception) cause : new Exception(cause));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                onError.accept(e);
+            }
+            finish();
+        }
+
+        /**
+         * Append queued chunks until the frame budget is spent, then yield and continue on a later EDT turn
+         */
+        private void drain() {
+            if (handle.isCancelled()) {
+                pending.clear();
+                return;
+            }
+            long deadline = System.nanoTime() + FRAME_BUDGET_NANOS;
+            while (!pending.isEmpty() && System.nanoTime() < deadline) {
+                Object[][] chunk = pending.poll();
+                model.appendRows(chunk);
+                appendedRows += chunk.length;
+            }
+            if (!pending.isEmpty()) {
+                drainScheduled = true;
+                SwingUtilities.invokeLater(() -> {
+                    drainScheduled = false;
+                    drain();
+                });
+            } else {
+                finishIfComplete();
+            }
+        }
+
+        private void finishIfComplete() {
+            if (expectedRows >= 0 && appendedRows == expectedRows && pending.isEmpty()) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            if (!finished) {
+                finished = true;
+                if (onFinish != null) {
+                    onFinish.run();
+                }
+            }
+        }
     }
 
     private static JDialog createProgressDialog(JComponent parent, String message) {
@@ -0,0 +1,204 @@
+package org.example.utils;
+
+import org.example.DatabaseConnection;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Handle for one background database operation: lets the caller cancel it and carries its query timeout.
+ *
+ * Service code registers its statement with {@link #track(Statement)} right after opening it, and closes the
+ * registration in a finally block before the statement is closed. While registered, the statement gets the handle's query timeout, and {@link #cancel()} calls
+ * Statement.cancel() on it so the server stops the query. Once cancelled, the operation's callbacks are not run,
+ * so stale results are never applied.
+ */
+public class QueryHandle {
+
+    /**
+     * Unregisters a statement from its handle; closed before the statement itself
+     */
+    public interface Registration extends AutoCloseable {
+        Registration NONE = () -> { };
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    private static final ThreadLocal<QueryHandle> CURRENT = new ThreadLocal<>();
+
+    // Statement.cancel() opens a new server connection to send KILL QUERY, so it never runs on the caller's
+    // thread (often the EDT) nor on a database worker, which may all be busy
+    private static final ExecutorService canceller = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "db-query-cancel");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int timeoutSeconds;
+    private volatile boolean cancelled;
+    // Guarded by this. Unregistering waits while a cancel of the same statement is still being sent,
+    // so a statement handed back to the pool's cache can never be cancelled on behalf of another borrower
+    private Statement statement;
+    private Statement cancelling;
+    private final List<Runnable> cancelHooks = new ArrayList<>();
+
+    /**
+     * @param timeoutSeconds query timeout for registered statements, or 0 for none
+     */
+    public QueryHandle(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public static QueryHandle withDefaultTimeout() {
+        return new QueryHandle(DatabaseConnection.DEFAULT_QUERY_TIMEOUT_SECONDS);
+    }
+
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancel the operation: the running statement, if any, is cancelled on the server and no callbacks run.
+     * Returns at once; the server-side cancel is sent from a background thread.
+     * Safe to call from any thread, more than once, and after the operation finished.
+     */
+    public void cancel() {
+        List<Runnable> hooks;
+        Statement running;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            hooks = new ArrayList<>(cancelHooks);
+            running = statement;
+            cancelling = running;
+        }
+        if (running != null) {
+            canceller.execute(() -> {
+                try {
+                    running.cancel();
+                } catch (SQLException e) {
+                    System.err.println("Failed to cancel query: " + e.getMessage());
+                } finally {
+                    synchronized (this) {
+                        cancelling = null;
+                        notifyAll();
+                    }
+                }
+            });
+        }
+        hooks.forEach(Runnable::run);
+    }
+
+    /**
+     * Run {@code hook} when the handle is cancelled, or right away if it already is
+     */
+    public void onCancel(Runnable hook) {
+        synchronized (this) {
+            if (!cancelled) {
+                cancelHooks.add(hook);
+                return;
+            }
+        }
+        hook.run();
+    }
+
+    /**
+     * Run {@code task} on the calling thread with this handle as the current one, so statements it tracks
+     * are registered here
+     *
+     * @throws CancellationException if the handle was cancelled before or while the task ran
+     */
+    public <T> T call(Supplier<T> task) {
+        if (cancelled) {
+            throw new CancellationException("Query cancelled");
+        }
+        QueryHandle previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            T result = task.get();
+            if (cancelled) {
+                throw new CancellationException("Query cancelled");
+            }
+            return result;
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Register {@code stmt} with the handle of the operation running on this thread, if there is one.
+     * Null statements are ignored, matching the services' {@code conn != null ? ... : null} idiom.
+     */
+    public static Registration track(Statement stmt) throws SQLException {
+        QueryHandle handle = CURRENT.get();
+        return handle != null && stmt != null ? handle.register(stmt) : Registration.NONE;
+    }
+
+    /**
+     * True if the operation running on this thread was cancelled; services use it to skip error dialogs
+     */
+    public static boolean isCurrentCancelled() {
+        QueryHandle handle = CURRENT.get();
+        return handle != null && handle.cancelled;
+    }
+
+    /**
+     * Register {@code stmt} with this handle and apply the query timeout
+     */
+    public Registration register(Statement stmt) throws SQLException {
+        synchronized (this) {
+            if (cancelled) {
+                throw new SQLException("Query cancelled");
+            }
+            statement = stmt;
+        }
+        Registration registration = () -> {
+            boolean interrupted = false;
+            synchronized (this) {
+                if (statement == stmt) {
+                    statement = null;
+                }
+                while (cancelling == stmt) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            // Pooled statements are reused; do not leak this operation's timeout to the next borrower
+            if (timeoutSeconds > 0) {
+                stmt.setQueryTimeout(0);
+            }
+        };
+        if (timeoutSeconds > 0) {
+            try {
+                stmt.setQueryTimeout(timeoutSeconds);
+            } catch (SQLException e) {
+                registration.close();
+                throw e;
+            }
+        }
+        return registration;
+    }
+}
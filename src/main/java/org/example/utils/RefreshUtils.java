@@ -10,30 +10,6 @@ import java.awt.event.ActionListener;
  */
 public class RefreshUtils {
 
-    /**
-     * Refreshes a table model with new data
-     * @param tableModel The table model to refresh
-     * @param data The new data to populate the table with
-     */
-    public static void refreshTableModel(DefaultTableModel tableModel, Object[][] data) {
-        if (tableModel == null) {
-            throw new IllegalArgumentException("Table model cannot be null");
-        }
-
-        // Clear existing data
-        tableModel.setRowCount(0);
-
-        // Add new data
-        if (data != null) {
-            for (Object[] row : data) {
-                tableModel.addRow(row);
-            }
-        }
-
-        // Notify listeners that the table data has changed
-        tableModel.fireTableDataChanged();
-    }
-
     /**
      * Safely refreshes a table model with new data, handling null cases
      * @param tableModel The table model to refresh
@@ -0,0 +1,138 @@
+package org.example.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads. While a call for a (query, parameters) key is in flight, further calls
+ * with the same key wait for it and get the same result instead of running the query again.
+ * Nothing is cached: once the call completes, the next one goes to the database.
+ *
+ * Shared results must be treated as read-only by callers. If the leading call was cancelled through its
+ * {@link QueryHandle}, its result is not shared and the waiters run the query themselves. A waiter whose own
+ * handle is cancelled stops waiting, so cancelled callers never hold on to a database worker.
+ *
+ * Services call {@link #invalidate()} after every committed write. A call made after that never joins one
+ * that started before it, so a refresh right after a write always sees the write.
+ */
+public final class SingleFlight {
+
+    // How often a waiter checks whether its own operation was cancelled
+    private static final long CANCEL_CHECK_MILLIS = 100;
+
+    private static final ConcurrentHashMap<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // Part of every key, bumped by invalidate(): calls from before a write and after it never share a result
+    private static final AtomicLong writeEpoch = new AtomicLong();
+    private static final LongAdder calls = new LongAdder();
+    private static final LongAdder deduplicated = new LongAdder();
+
+    private SingleFlight() {
+    }
+
+    /**
+     * Run {@code loader}, or join an identical call already in flight
+     *
+     * @param query  the SQL text, or another name that identifies the read
+     * @param params the query parameters; compared with equals()
+     * @throws CancellationException if the caller's own {@link QueryHandle} is cancelled while it waits
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T call(String query, Supplier<T> loader, Object... params) {
+        List<Object> key = Arrays.asList(query, Arrays.asList(params), writeEpoch.get());
+        calls.increment();
+        while (true) {
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+            if (running == null) {
+                return lead(key, mine, loader);
+            }
+            try {
+                Object result = await(running);
+                deduplicated.increment();
+                return (T) result;
+            } catch (CancellationException e) {
+                if (QueryHandle.isCurrentCancelled() || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                // The leader was cancelled; try again, most likely as the new leader
+            } catch (ExecutionException e) {
+                deduplicated.increment();
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /**
+     * Wait for the leader's result, giving up as soon as the caller's own operation is cancelled
+     */
+    private static Object await(CompletableFuture<Object> running) throws ExecutionException {
+        while (true) {
+            if (QueryHandle.isCurrentCancelled()) {
+                throw new CancellationException("Query cancelled");
+            }
+            try {
+                return running.get(CANCEL_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Still running; check for cancellation again
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for a shared query");
+            }
+        }
+    }
+
+    private static <T> T lead(List<Object> key, CompletableFuture<Object> mine, Supplier<T> loader) {
+        try {
+            T result = loader.get();
+            if (QueryHandle.isCurrentCancelled()) {
+                // A cancelled query returns a partial or empty result; do not hand it to anyone else
+                mine.cancel(false);
+            } else {
+                mine.complete(result);
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Record that a write was committed; calls made from now on only join calls that also started after it
+     */
+    public static void invalidate() {
+        writeEpoch.incrementAndGet();
+    }
+
+    /**
+     * Total calls, including those that joined another call
+     */
+    public static long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Calls that got the result of an identical call already in flight instead of querying
+     */
+    public static long getDeduplicated() {
+        return deduplicated.sum();
+    }
+}
@@ -1,32 +1,41 @@
 package org.example.utils;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 
 public class ThreadUtils {
-    private static final ExecutorService executorService = Executors.newCachedThreadPool(r -> {
-        Thread thread = new Thread(r);
-        thread.setDaemon(true);
-        thread.setName("Background-Worker-" + thread.getId());
-        return thread;
-    });
 
-    public static <T> void executeInBackground(
+    public static <T> QueryHandle executeInBackground(
+            Supplier<T> task,
+            Consumer<T> onSuccess,
+            Consumer<Exception> onError) {
+        return executeInBackground(QueryHandle.withDefaultTimeout(), task, onSuccess, onError);
+    }
+
+    /**
+     * Run a task on the background lane under {@code handle}; once the handle is cancelled no callbacks run
+     */
+    public static <T> QueryHandle executeInBackground(
+            QueryHandle handle,
             Supplier<T> task,
             Consumer<T> onSuccess,
             Consumer<Exception> onError) {
 
-        CompletableFuture.supplyAsync(task, executorService)
+        CompletableFuture.supplyAsync(() -> handle.call(task), DatabaseExecutor.executor())
             .whenComplete((result, throwable) -> {
+                if (handle.isCancelled()) {
+                    return;
+                }
                 if (throwable != null) {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
                     if (onError != null) {
-                        onError.accept(throwable instanceof Exception ?
-                            (Exception) throwable :
-                            new Exception(throwable));
+                        onError.accept(cause instanceof Exception ?
+                            (Exception) cause :
+                            new Exception(cause));
                     }
                 } else {
                     if (onSuccess != null) {
@@ -34,6 +43,7 @@ public class ThreadUtils {
                     }
                 }
             });
+        return handle;
     }
 
 }
@@ -0,0 +1,63 @@
+package org.example.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeSlotPlanTest {
+
+    private static final List<TimeSlotPlan.TimeWindow> MORNING = Collections.singletonList(
+            new TimeSlotPlan.TimeWindow(LocalTime.of(9, 0), LocalTime.of(10, 0)));
+
+    @Test
+    void expandsOnlyTheChosenWeekdaysInclusively() {
+        // 2026-10-05 is a Monday
+        TimeSlotPlan plan = new TimeSlotPlan(1, LocalDate.of(2026, 10, 5), LocalDate.of(2026, 10, 14),
+                EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), MORNING, 5);
+
+        assertEquals(Arrays.asList(
+                LocalDate.of(2026, 10, 5),
+                LocalDate.of(2026, 10, 7),
+                LocalDate.of(2026, 10, 12),
+                LocalDate.of(2026, 10, 14)), plan.expandDates());
+    }
+
+    @Test
+    void noWeekdaysMeansNoDates() {
+        TimeSlotPlan plan = new TimeSlotPlan(1, LocalDate.of(2026, 10, 5), LocalDate.of(2026, 10, 14),
+                EnumSet.noneOf(DayOfWeek.class), MORNING, 5);
+
+        assertTrue(plan.expandDates().isEmpty());
+        assertEquals(0, plan.getSlotCount());
+    }
+
+    @Test
+    void slotCountIsDatesTimesWindows() {
+        TimeSlotPlan plan = new TimeSlotPlan(1, LocalDate.of(2026, 10, 5), LocalDate.of(2026, 10, 11),
+                EnumSet.allOf(DayOfWeek.class), TimeSlotPlan.parseWindows("09:00-10:00\n\n13:00 - 14:30\n"), 5);
+
+        assertEquals(14, plan.getSlotCount());
+    }
+
+    @Test
+    void rejectsAnEndDateBeforeTheStart() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlotPlan(1, LocalDate.of(2026, 10, 5),
+                LocalDate.of(2026, 10, 4), EnumSet.allOf(DayOfWeek.class), MORNING, 5));
+    }
+
+    @Test
+    void rejectsMalformedWindows() {
+        assertThrows(IllegalArgumentException.class, () -> TimeSlotPlan.parseWindows("9-10-11"));
+        assertThrows(IllegalArgumentException.class, () -> TimeSlotPlan.parseWindows("10:00-09:00"));
+    }
+}
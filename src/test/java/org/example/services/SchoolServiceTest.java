@@ -0,0 +1,58 @@
+package org.example.services;
+
+import org.example.models.SchoolQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SchoolServiceTest {
+
+    private static final String SELECT =
+            "SELECT school_id, school_name, full_name, status, student_count FROM AdminSchoolView WHERE 1 = 1";
+
+    @Test
+    void pendingQueryFiltersByStatusAndPages() {
+        List<Object> params = new ArrayList<>();
+
+        String sql = SchoolService.buildSchoolsSql(SchoolQuery.pending(), params);
+
+        assertEquals(SELECT + " AND status = ? ORDER BY school_id ASC LIMIT ? OFFSET ?", sql);
+        assertEquals(Arrays.asList("Pending", SchoolQuery.DEFAULT_LIMIT, 0), params);
+    }
+
+    @Test
+    void emptyFiltersAddNoConditions() {
+        List<Object> params = new ArrayList<>();
+        SchoolQuery query = new SchoolQuery("", "", SchoolQuery.SortColumn.SCHOOL_ID, true, 50, 100);
+
+        String sql = SchoolService.buildSchoolsSql(query, params);
+
+        assertEquals(SELECT + " ORDER BY school_id ASC LIMIT ? OFFSET ?", sql);
+        assertEquals(Arrays.asList(50, 100), params);
+    }
+
+    @Test
+    void otherSortColumnsAreTieBrokenBySchoolId() {
+        List<Object> params = new ArrayList<>();
+        SchoolQuery query = new SchoolQuery(null, null, SchoolQuery.SortColumn.STUDENT_COUNT, false, 10, 0);
+
+        String sql = SchoolService.buildSchoolsSql(query, params);
+
+        assertEquals(SELECT + " ORDER BY student_count DESC, school_id LIMIT ? OFFSET ?", sql);
+    }
+
+    @Test
+    void namePrefixIsEscapedForLike() {
+        List<Object> params = new ArrayList<>();
+        SchoolQuery query = new SchoolQuery(null, "50%_off!", SchoolQuery.SortColumn.SCHOOL_NAME, true, 10, 0);
+
+        String sql = SchoolService.buildSchoolsSql(query, params);
+
+        assertEquals(SELECT + " AND school_name LIKE ? ESCAPE '!' ORDER BY school_name ASC, school_id LIMIT ? OFFSET ?", sql);
+        assertEquals(Arrays.asList("50!%!_off!!%", 10, 0), params);
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.ui.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowDiffTest {
+
+    private static final BiPredicate<Row, Row> SAME_CELLS = (a, b) -> a.value.equals(b.value);
+
+    private static final class Row {
+        private final int id;
+        private final String value;
+
+        Row(int id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        int getId() {
+            return id;
+        }
+    }
+
+    /**
+     * Records the events in the order they were reported
+     */
+    private static final class Events implements RowDiff.Listener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void deleted(int first, int last) {
+            events.add("deleted " + first + "-" + last);
+        }
+
+        @Override
+        public void inserted(int first, int last) {
+            events.add("inserted " + first + "-" + last);
+        }
+
+        @Override
+        public void updated(int first, int last) {
+            events.add("updated " + first + "-" + last);
+        }
+    }
+
+    private static List<Row> rows(Object... idsAndValues) {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < idsAndValues.length; i += 2) {
+            rows.add(new Row((Integer) idsAndValues[i], (String) idsAndValues[i + 1]));
+        }
+        return rows;
+    }
+
+    private static List<Integer> ids(List<Row> rows) {
+        List<Integer> ids = new ArrayList<>();
+        for (Row row : rows) {
+            ids.add(row.id);
+        }
+        return ids;
+    }
+
+    @Test
+    void unchangedRowsFireNoEvents() {
+        List<Row> current = rows(1, "a", 2, "b");
+        Events events = new Events();
+
+        assertTrue(RowDiff.apply(current, rows(1, "a", 2, "b"), Row::getId, SAME_CELLS, events));
+
+        assertTrue(events.events.isEmpty());
+    }
+
+    @Test
+    void unchangedRowsAreStillReplacedWithTheNewObjects() {
+        List<Row> current = rows(1, "a");
+        List<Row> next = rows(1, "a");
+
+        assertTrue(RowDiff.apply(current, next, Row::getId, SAME_CELLS, new Events()));
+
+        assertSame(next.get(0), current.get(0));
+    }
+
+    @Test
+    void reportsDeletedInsertedAndUpdatedRanges() {
+        List<Row> current = rows(1, "a", 2, "b", 3, "c", 4, "d", 5, "e");
+        List<Row> next = rows(1, "a", 3, "C", 4, "D", 6, "f", 7, "g", 5, "e");
+        Events events = new Events();
+
+        assertTrue(RowDiff.apply(current, next, Row::getId, SAME_CELLS, events));
+
+        assertEquals(Arrays.asList("deleted 1-1", "updated 1-2", "inserted 3-4"), events.events);
+        assertEquals(ids(next), ids(current));
+        assertEquals("C", current.get(1).value);
+    }
+
+    @Test
+    void deletesContiguousRangesFromTheEnd() {
+        List<Row> current = rows(1, "a", 2, "b", 3, "c", 4, "d", 5, "e");
+        Events events = new Events();
+
+        assertTrue(RowDiff.apply(current, rows(1, "a", 4, "d"), Row::getId, SAME_CELLS, events));
+
+        assertEquals(Arrays.asList("deleted 4-4", "deleted 1-2"), events.events);
+        assertEquals(Arrays.asList(1, 4), ids(current));
+    }
+
+    @Test
+    void fillsAnEmptyListWithOneInsert() {
+        List<Row> current = new ArrayList<>();
+        Events events = new Events();
+
+        assertTrue(RowDiff.apply(current, rows(1, "a", 2, "b"), Row::getId, SAME_CELLS, events));
+
+        assertEquals(Arrays.asList("inserted 0-1"), events.events);
+    }
+
+    @Test
+    void rejectsReorderedRowsWithoutTouchingTheList() {
+        List<Row> current = rows(1, "a", 2, "b");
+        Events events = new Events();
+
+        assertFalse(RowDiff.apply(current, rows(2, "b", 1, "a"), Row::getId, SAME_CELLS, events));
+
+        assertEquals(Arrays.asList(1, 2), ids(current));
+        assertTrue(events.events.isEmpty());
+    }
+
+    @Test
+    void rejectsDuplicateKeysInTheNewRows() {
+        List<Row> current = rows(1, "a");
+
+        assertFalse(RowDiff.apply(current, rows(1, "a", 1, "b"), Row::getId, SAME_CELLS, new Events()));
+    }
+
+    @Test
+    void rejectsDuplicateKeysInTheCurrentRows() {
+        List<Row> current = rows(1, "a", 1, "b");
+        Events events = new Events();
+
+        assertFalse(RowDiff.apply(current, rows(1, "a"), Row::getId, SAME_CELLS, events));
+
+        assertEquals(2, current.size());
+        assertTrue(events.events.isEmpty());
+    }
+}